@@ -0,0 +1,160 @@
+package shop.devictoria.api.oauth;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import shop.devictoria.api.resilience.ProviderGuards;
+import shop.devictoria.api.state.OAuthStateService;
+import shop.devictoria.api.state.PendingAuthorization;
+import shop.devictoria.api.state.TimingWheelStateStore;
+
+/**
+ * GET /api/auth/{provider}/auth-url 핫패스
+ *
+ * - authUrl / authUrlPkce: 미리 인코딩한 URL 에 state(와 code_challenge)만 붙이는 부분
+ * - responseTemplate: 미리 직렬화한 응답 바이트에 state·code_challenge 를 끼워 풀링 버퍼에 쓰는 현재 응답 경로 (AuthUrlTemplate)
+ * - responseJackson: 비교용. URL 문자열을 만들고 AuthUrlResponse 를 Jackson 으로 직렬화하던 이전 경로
+ * - issueAndConsume: OAuthController.getAuthUrl() 과 같은 state 발급(+PKCE) → URL 생성에 콜백의 state 소비까지.
+ *   소비까지 해야 저장소 크기가 일정하게 유지된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthUrlBenchmark {
+
+    private static final String STATE = "q1vUZp3r9Jc0mN2bX7yKsA";
+
+    private static final String CODE_CHALLENGE = "E9Melhoa2OwvFrEMTJguCHaoeK1t8URWbuGJSstw-cM";
+
+    private ConfiguredOAuthProvider kakao;
+
+    private ConfiguredOAuthProvider google;
+
+    private AuthUrlTemplate googleTemplate;
+
+    private ObjectWriter responseWriter;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    private TimingWheelStateStore stateStore;
+
+    private OAuthStateService stateService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProviderGuards guards = new ProviderGuards(new StandardEnvironment(), meterRegistry);
+        UserInfoCache userInfoCache = new UserInfoCache(meterRegistry, 1_000, Duration.ofMinutes(5), Duration.ofHours(1));
+
+        kakao = new ConfiguredOAuthProvider("kakao", ProviderFixtures.kakao(), WebClient.create(),
+                userInfoCache, guards.get("kakao", "카카오"));
+        google = new ConfiguredOAuthProvider("google", ProviderFixtures.google(), WebClient.create(),
+                userInfoCache, guards.get("google", "구글"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        googleTemplate = AuthUrlTemplate.of(google, objectMapper);
+        responseWriter = objectMapper.writerFor(AuthUrlResponse.class);
+
+        stateStore = new TimingWheelStateStore(Duration.ofMillis(100), 8192, 1_000_000);
+        stateService = new OAuthStateService(stateStore, Duration.ofMinutes(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stateStore.destroy();
+    }
+
+    @Benchmark
+    public String authUrl() {
+        return kakao.authUrl(STATE, null);
+    }
+
+    @Benchmark
+    public String authUrlPkce() {
+        return google.authUrl(STATE, CODE_CHALLENGE);
+    }
+
+    @Benchmark
+    public int responseTemplate() throws JsonProcessingException {
+        DataBuffer buffer = googleTemplate.render(bufferFactory, STATE, CODE_CHALLENGE);
+        int length = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return length;
+    }
+
+    @Benchmark
+    public int responseJackson() throws JsonProcessingException {
+        DataBuffer buffer = bufferFactory.wrap(responseWriter.writeValueAsBytes(
+                new AuthUrlResponse(google.authUrl(STATE, CODE_CHALLENGE), STATE)));
+        int length = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return length;
+    }
+
+    @Benchmark
+    public PendingAuthorization issueAndConsume() {
+        OAuthStateService.AuthorizationRequest authorization = stateService.begin("google", true).block();
+        google.authUrl(authorization.state(), authorization.codeChallenge());
+        return stateService.complete("google", authorization.state()).block();
+    }
+
+    /**
+     * application.yaml 의 제공자 설정과 같은 모양의 고정값
+     */
+    static final class ProviderFixtures {
+
+        private ProviderFixtures() {
+        }
+
+        static OAuthProviderProperties kakao() {
+            return new OAuthProviderProperties("카카오", "kakao-client-id", "", "http://localhost:8080/api/auth/kakao/callback",
+                    "http://localhost:3000/auth/kakao", "https://kauth.kakao.com/oauth/authorize",
+                    "https://kauth.kakao.com/oauth/token", "POST", false, false,
+                    "https://kapi.kakao.com/v2/user/me", "profile_nickname profile_image account_email",
+                    Map.of(), Map.of(),
+                    new OAuthProviderProperties.UserInfoMapping("id", "kakao_account.profile.nickname",
+                            "kakao_account.email", "kakao_account.profile.profile_image_url"), null);
+        }
+
+        static OAuthProviderProperties naver() {
+            return new OAuthProviderProperties("네이버", "naver-client-id", "naver-secret",
+                    "http://localhost:8080/api/auth/naver/callback", "http://localhost:3000/auth/naver",
+                    "https://nid.naver.com/oauth2.0/authorize", "https://nid.naver.com/oauth2.0/token", "GET",
+                    false, true, "https://openapi.naver.com/v1/nid/me", null,
+                    Map.of(), Map.of(),
+                    new OAuthProviderProperties.UserInfoMapping("response.id", "response.nickname",
+                            "response.email", "response.profile_image"), null);
+        }
+
+        static OAuthProviderProperties google() {
+            return new OAuthProviderProperties("구글", "google-client-id.apps.googleusercontent.com", "google-secret",
+                    "http://localhost:8080/api/auth/google/callback", "http://localhost:3000/auth/google",
+                    "https://accounts.google.com/o/oauth2/v2/auth", "https://oauth2.googleapis.com/token", "POST",
+                    true, false, "https://openidconnect.googleapis.com/v1/userinfo", "openid email profile",
+                    Map.of("access_type", "online"), Map.of(),
+                    new OAuthProviderProperties.UserInfoMapping("sub", "name", "email", "picture"), null);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package shop.devictoria.api.oauth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 제공자 토큰/사용자 정보 응답 파싱
+ *
+ * - kakaoToken ~ naverUserInfo, kakaoLogin: ConfiguredOAuthProvider 가 쓰는 {@link ProviderResponseReader} 스트리밍 디코딩
+ * - *Map: 비교용. 이전처럼 bodyToMono(Map) 과 같은 Jackson 디코딩 뒤 점 경로로 맵에서 꺼내는 경로
+ * 로그인 한 번당 할당은 kakaoLogin / kakaoLoginMap 의 gc.alloc.rate.norm (B/op) 으로 비교한다.
+ * 응답 본문은 실제 제공자 응답과 같은 크기/중첩 구조의 예시값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProviderResponseBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private static final byte[] KAKAO_TOKEN = ("""
+            {"token_type":"bearer","access_token":"T3nG1cB0kXqYzQvL8mN2pR5sU7wA9dF4hJ6kL0mN2pQ4rS6tU8vW0xY2zA4bC6dE",\
+            "expires_in":21599,"refresh_token":"Rf9sK2mN4pQ6rS8tU0vW2xY4zA6bC8dE0fG2hI4jK6lM8nO0pQ2rS4tU6vW8xY0z",\
+            "refresh_token_expires_in":5183999,"scope":"account_email profile_image profile_nickname"}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NAVER_TOKEN = ("""
+            {"access_token":"AAAAQosjWDJieBiQZc3to9YQp6HDLvrmyKC+6+iZ3gq7qrkqf50ljZC+Lgoqrg",\
+            "refresh_token":"c8ceMEJisO4Se7uGisHoX0f5JEii7JnipglQipkOn5Zp3tyP7dHQoP0zNKHUq2gY",\
+            "token_type":"bearer","expires_in":"3600"}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] KAKAO_USER = ("""
+            {"id":3184726501,"connected_at":"2024-03-02T08:12:44Z",\
+            "properties":{"nickname":"데비","profile_image":"http://k.kakaocdn.net/dn/abc/img_640x640.jpg",\
+            "thumbnail_image":"http://k.kakaocdn.net/dn/abc/img_110x110.jpg"},\
+            "kakao_account":{"profile_nickname_needs_agreement":false,"profile_image_needs_agreement":false,\
+            "profile":{"nickname":"데비","thumbnail_image_url":"http://k.kakaocdn.net/dn/abc/img_110x110.jpg",\
+            "profile_image_url":"http://k.kakaocdn.net/dn/abc/img_640x640.jpg","is_default_image":false},\
+            "has_email":true,"email_needs_agreement":false,"is_email_valid":true,"is_email_verified":true,\
+            "email":"devi@example.com"}}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NAVER_USER = ("""
+            {"resultcode":"00","message":"success","response":{"id":"32742776-xyzw-4a1b-9c3d-abcdef012345",\
+            "nickname":"데비","profile_image":"https://ssl.pstatic.net/static/pwe/address/img_profile.png",\
+            "email":"devi@naver.com","name":"데비"}}
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+
+    private OAuthProviderProperties.UserInfoMapping kakaoMapping;
+
+    private OAuthProviderProperties.UserInfoMapping naverMapping;
+
+    private ProviderResponseReader kakao;
+
+    private ProviderResponseReader naver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        kakaoMapping = AuthUrlBenchmark.ProviderFixtures.kakao().userInfo();
+        naverMapping = AuthUrlBenchmark.ProviderFixtures.naver().userInfo();
+        kakao = new ProviderResponseReader("kakao", kakaoMapping, null);
+        naver = new ProviderResponseReader("naver", naverMapping, null);
+    }
+
+    @Benchmark
+    public OAuthToken kakaoToken() throws Exception {
+        return kakao.readToken(DefaultDataBufferFactory.sharedInstance.wrap(KAKAO_TOKEN));
+    }
+
+    @Benchmark
+    public OAuthToken naverToken() throws Exception {
+        return naver.readToken(DefaultDataBufferFactory.sharedInstance.wrap(NAVER_TOKEN));
+    }
+
+    @Benchmark
+    public OAuthUserProfile kakaoUserInfo() throws Exception {
+        return kakao.readUserProfile(DefaultDataBufferFactory.sharedInstance.wrap(KAKAO_USER));
+    }
+
+    @Benchmark
+    public OAuthUserProfile naverUserInfo() throws Exception {
+        return naver.readUserProfile(DefaultDataBufferFactory.sharedInstance.wrap(NAVER_USER));
+    }
+
+    /**
+     * 로그인 한 번 = 토큰 응답 + 사용자 정보 응답
+     */
+    @Benchmark
+    public OAuthUserProfile kakaoLogin() throws Exception {
+        kakao.readToken(DefaultDataBufferFactory.sharedInstance.wrap(KAKAO_TOKEN));
+        return kakao.readUserProfile(DefaultDataBufferFactory.sharedInstance.wrap(KAKAO_USER));
+    }
+
+    @Benchmark
+    public Map<String, Object> kakaoTokenMap() throws Exception {
+        return objectMapper.readValue(KAKAO_TOKEN, MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Object> naverTokenMap() throws Exception {
+        return objectMapper.readValue(NAVER_TOKEN, MAP_TYPE);
+    }
+
+    @Benchmark
+    public OAuthUserProfile kakaoUserInfoMap() throws Exception {
+        return toProfile("kakao", kakaoMapping, objectMapper.readValue(KAKAO_USER, MAP_TYPE));
+    }
+
+    @Benchmark
+    public OAuthUserProfile naverUserInfoMap() throws Exception {
+        return toProfile("naver", naverMapping, objectMapper.readValue(NAVER_USER, MAP_TYPE));
+    }
+
+    @Benchmark
+    public OAuthUserProfile kakaoLoginMap() throws Exception {
+        objectMapper.readValue(KAKAO_TOKEN, MAP_TYPE);
+        return toProfile("kakao", kakaoMapping, objectMapper.readValue(KAKAO_USER, MAP_TYPE));
+    }
+
+    /**
+     * 이전 ConfiguredOAuthProvider 의 맵 → 프로필 변환
+     */
+    private static OAuthUserProfile toProfile(String provider, OAuthProviderProperties.UserInfoMapping mapping,
+                                              Map<String, Object> userInfo) {
+        return new OAuthUserProfile(
+                provider,
+                read(userInfo, mapping.id()),
+                read(userInfo, mapping.nickname()),
+                read(userInfo, mapping.email()),
+                read(userInfo, mapping.profileImage())
+        );
+    }
+
+    private static String read(Map<String, Object> source, String path) {
+        Object current = source;
+        int start = 0;
+        while (current instanceof Map<?, ?> map) {
+            int end = path.indexOf('.', start);
+            String key = end < 0 ? path.substring(start) : path.substring(start, end);
+            current = map.get(key);
+            if (end < 0) {
+                return current != null ? current.toString() : null;
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,156 @@
+package shop.devictoria.api.security;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.ratelimit.ClientKeyResolver;
+import shop.devictoria.api.ratelimit.InMemoryTokenBucketBackend;
+import shop.devictoria.api.token.JwtIssuer;
+import shop.devictoria.api.token.JwtKeyManager;
+
+/**
+ * 게이트웨이 요청 핫패스: JWT 인증 필터 → 레이트 리밋 키 결정 → 토큰 버킷 차감
+ *
+ * 라우팅/Netty 를 빼고 게이트웨이가 직접 하는 일만 잰다. 교환 객체 생성 비용도 포함된다.
+ * - cachedToken: 같은 세션의 후속 요청 (검증 캐시 적중)
+ * - coldToken: 검증 캐시를 끈 검증기로 매번 서명 검증
+ * - opaqueToken: 제공자 액세스 토큰 + X-Auth-Provider (인트로스펙션 캐시 적중)
+ * - publicPath: 보호 경로가 아닌 요청 (X-User-Id 제거만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GatewayFilterChainBenchmark {
+
+    private static final String ROUTE_ID = "user-service-route";
+
+    private static final InetSocketAddress CLIENT = new InetSocketAddress("203.0.113.10", 52344);
+
+    private static final int UNLIMITED = Integer.MAX_VALUE / 2;
+
+    private static final String PROVIDER_TOKEN = "Bearer T3nG1cB0kXqYzQvL8mN2pR5sU7wA9dF4hJ6kL0mN2pQ4rS6tU8vW0xY2zA4bC6dE";
+
+    private JwtAuthenticationFilter cachedFilter;
+
+    private JwtAuthenticationFilter coldFilter;
+
+    private ClientKeyResolver keyResolver;
+
+    private InMemoryTokenBucketBackend tokenBucket;
+
+    private GatewayFilterChain rateLimitedChain;
+
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        // authservice 와 같은 코드로 발급한 토큰과 JWKS 를 쓴다
+        JwtKeyManager keyManager = new JwtKeyManager("");
+        JwtIssuer issuer = new JwtIssuer(keyManager, objectMapper, "devictoria-auth", Duration.ofMinutes(30));
+        authorization = "Bearer " + issuer.issue("kakao:3184726501", "kakao").token();
+
+        byte[] jwks = objectMapper.writeValueAsBytes(keyManager.jwks());
+        WebClient.Builder jwksClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(new String(jwks, StandardCharsets.UTF_8))
+                        .build()));
+        JwksKeyRing keyRing = new JwksKeyRing(jwksClient, "http://authservice/api/auth/jwks",
+                Duration.ofHours(1), Duration.ZERO);
+        keyRing.find(keyManager.keyId()).block();
+
+        WebClient.Builder introspectionClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"active\":true,\"sub\":\"kakao:3184726501\",\"provider\":\"kakao\",\"exp\":null}")
+                        .build()));
+        OpaqueTokenIntrospector introspector = new OpaqueTokenIntrospector(introspectionClient, null,
+                new SimpleMeterRegistry(), true, "http://authservice/internal/tokens/introspect", Duration.ofSeconds(2), 100_000,
+                Duration.ofHours(1), Duration.ofSeconds(30));
+
+        MockEnvironment protectedPaths = new MockEnvironment().withProperty("jwt.protected-paths[0]", "/api/users/**");
+        cachedFilter = new JwtAuthenticationFilter(
+                new JwtVerifier(keyRing, objectMapper, "devictoria-auth", 100_000), introspector, protectedPaths);
+        coldFilter = new JwtAuthenticationFilter(
+                new JwtVerifier(keyRing, objectMapper, "devictoria-auth", 0), introspector, protectedPaths);
+
+        keyResolver = new ClientKeyResolver(1);
+        tokenBucket = new InMemoryTokenBucketBackend(Duration.ofMinutes(1));
+        rateLimitedChain = exchange -> keyResolver.resolve(exchange)
+                .flatMap(key -> tokenBucket.tryConsume(ROUTE_ID + ":" + key, UNLIMITED, UNLIMITED, 1))
+                .then();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tokenBucket.destroy();
+    }
+
+    @Benchmark
+    public ServerWebExchange cachedToken() {
+        ServerWebExchange exchange = exchange("/api/users/me", authorization);
+        cachedFilter.filter(exchange, rateLimitedChain).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange coldToken() {
+        ServerWebExchange exchange = exchange("/api/users/me", authorization);
+        coldFilter.filter(exchange, rateLimitedChain).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange opaqueToken() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/me")
+                .remoteAddress(CLIENT)
+                .header(HttpHeaders.AUTHORIZATION, PROVIDER_TOKEN)
+                .header(JwtAuthenticationFilter.PROVIDER_HEADER, "kakao"));
+        cachedFilter.filter(exchange, rateLimitedChain).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange publicPath() {
+        ServerWebExchange exchange = exchange("/api/auth/kakao/auth-url", null);
+        cachedFilter.filter(exchange, rateLimitedChain).block();
+        return exchange;
+    }
+
+    private static ServerWebExchange exchange(String path, String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path).remoteAddress(CLIENT);
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,38 @@
+package shop.devictoria.api.token;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 로그인 성공 시 액세스 토큰 발급 (클레임 직렬화 + RS256 서명)
+ *
+ * 비용 대부분은 RSA 서명이라 처리량은 ops/ms 단위로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenIssueBenchmark {
+
+    private JwtIssuer issuer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        issuer = new JwtIssuer(new JwtKeyManager(""), Jackson2ObjectMapperBuilder.json().build(),
+                "devictoria-auth", Duration.ofMinutes(30));
+    }
+
+    @Benchmark
+    public JwtIssuer.IssuedToken issue() {
+        return issuer.issue("kakao:3184726501", "kakao");
+    }
+}
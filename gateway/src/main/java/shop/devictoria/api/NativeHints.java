@@ -0,0 +1,41 @@
+package shop.devictoria.api;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+import shop.devictoria.api.cache.ResponseCacheProperties;
+import shop.devictoria.api.resilience.RouteCircuitBreakerProperties;
+import shop.devictoria.api.routing.RoutingProperties;
+import shop.devictoria.api.routing.UpstreamDefinition;
+import shop.devictoria.api.security.IntrospectionResult;
+import shop.devictoria.api.security.JwtProperties;
+
+/**
+ * 네이티브 이미지 힌트
+ *
+ * 설정 레코드는 @ConfigurationProperties 빈이 아니라 Binder 로 직접 바인딩하므로 AOT 가 찾지 못한다.
+ * 라우트 파일, Lua 스크립트, 빌드 시 생성한 OpenAPI 명세도 실행 중에 클래스패스에서 읽는다.
+ * WebClient 응답을 Jackson 으로 역직렬화하는 레코드는 리플렉션 힌트가 필요하다.
+ */
+class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindableRuntimeHintsRegistrar.forTypes(
+                RoutingProperties.class,
+                UpstreamDefinition.class,
+                ResponseCacheProperties.class,
+                RouteCircuitBreakerProperties.class,
+                JwtProperties.class
+        ).registerHints(hints, classLoader);
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), IntrospectionResult.class);
+
+        hints.resources()
+                .registerPattern("routes.yaml")
+                .registerPattern("ratelimit/*.lua")
+                .registerPattern("openapi/openapi.json");
+    }
+}
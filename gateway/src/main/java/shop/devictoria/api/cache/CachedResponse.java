@@ -0,0 +1,54 @@
+package shop.devictoria.api.cache;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * 캐시된 응답 한 건
+ *
+ * @param headers      저장 대상 헤더만 복사한 읽기 전용 헤더
+ * @param body         본문 (off-heap 설정 시 다이렉트 버퍼). 쓸 때마다 duplicate() 로 위치를 분리한다
+ * @param etag         응답 ETag. 다운스트림이 주지 않았으면 게이트웨이가 만든 약한 ETag
+ * @param upstreamEtag ETag 가 다운스트림 것이면 true (만료 후 If-None-Match 로 재검증 가능)
+ * @param storedAt     저장(또는 재검증) 시각, epoch millis
+ * @param freshUntil   이 시각까지는 다운스트림에 묻지 않고 응답한다
+ * @param expiresAt    캐시에서 빠지는 시각 (재검증 가능한 항목은 freshUntil 이후에도 잠시 남겨 둔다)
+ */
+public record CachedResponse(
+    HttpStatusCode status,
+    HttpHeaders headers,
+    ByteBuffer body,
+    String etag,
+    boolean upstreamEtag,
+    long storedAt,
+    long freshUntil,
+    long expiresAt
+) {
+
+    public boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    /**
+     * 304 재검증 성공 시 본문은 그대로 두고 신선도만 갱신
+     */
+    public CachedResponse revalidated(long now, long freshFor, long keepFor) {
+        return new CachedResponse(status, headers, body, etag, upstreamEtag, now, now + freshFor, now + freshFor + keepFor);
+    }
+
+    /**
+     * Caffeine 가중치: 본문 + 헤더 대략치
+     */
+    int weight() {
+        int headerBytes = 0;
+        for (var entry : headers.entrySet()) {
+            headerBytes += entry.getKey().length();
+            for (String value : entry.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        return body.capacity() + headerBytes + 128;
+    }
+}
@@ -0,0 +1,412 @@
+package shop.devictoria.api.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트별 로컬 응답 캐시 필터
+ *
+ * <pre>
+ * - name: ResponseCache
+ *   args:
+ *     ttl: 30s
+ *     key-headers: X-User-Id
+ * </pre>
+ * GET 200 응답만 저장하며, 키는 라우트 + 경로 + 쿼리 + key-headers 값이다.
+ * 다운스트림 Cache-Control 을 따른다: no-store·Set-Cookie 는 저장하지 않고, max-age/s-maxage 가 ttl 보다 짧으면 그 값을 쓴다.
+ * private 응답은 key-headers 로 사용자별 키를 만들 때만 저장한다. key-headers 중 하나라도 없는 요청은 캐시를 거치지 않는다.
+ * 신선도가 지난 항목은 다운스트림 ETag 가 있으면 If-None-Match 로 재검증하고 304 면 본문을 다시 받지 않는다.
+ * 클라이언트의 If-None-Match 가 맞으면 캐시에서 바로 304 로 응답한다.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /**
+     * 캐시 응답에 다시 실어 보낼 헤더. CORS 처럼 요청마다 게이트웨이가 붙이는 헤더는 저장하지 않는다
+     */
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED
+    );
+
+    private final ResponseCacheStore store;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+
+            if (!isCacheableRequest(request, config)) {
+                counter(routeId, "bypass").increment();
+                return chain.filter(exchange);
+            }
+
+            String key = key(routeId, request, config);
+            long now = System.currentTimeMillis();
+            CachedResponse cached = store.get(key);
+
+            if (cached != null && cached.isFresh(now)) {
+                counter(routeId, "hit").increment();
+                return writeCached(exchange.getResponse(), request, cached, now);
+            }
+
+            if (cached != null && cached.upstreamEtag()) {
+                ServerWebExchange revalidating = exchange.mutate()
+                        .request(builder -> builder.headers(headers -> headers.setIfNoneMatch(cached.etag())))
+                        .build();
+                return chain.filter(revalidating.mutate()
+                        .response(new CachingResponse(revalidating.getResponse(), request, key, routeId, config, cached))
+                        .build());
+            }
+
+            counter(routeId, "miss").increment();
+            return chain.filter(exchange.mutate()
+                    .response(new CachingResponse(exchange.getResponse(), request, key, routeId, config, null))
+                    .build());
+        };
+    }
+
+    private static boolean isCacheableRequest(ServerHttpRequest request, Config config) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("no-cache"))) {
+            return false;
+        }
+        // 스트리밍 응답은 모아 두지 않는다
+        for (MediaType accept : headers.getAccept()) {
+            if (MediaType.APPLICATION_NDJSON.includes(accept) || MediaType.TEXT_EVENT_STREAM.includes(accept)) {
+                return false;
+            }
+        }
+        // 사용자별 키 없이 인증 요청을 캐시하면 다른 사용자에게 응답이 새어 나간다
+        if (config.getKeyHeaders().isEmpty()) {
+            return !headers.containsKey(HttpHeaders.AUTHORIZATION);
+        }
+        // 키 헤더가 빠진 요청들이 한 항목("|null")을 나눠 쓰지 않게 한다
+        for (String header : config.getKeyHeaders()) {
+            if (headers.getFirst(header) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String key(String routeId, ServerHttpRequest request, Config config) {
+        StringBuilder key = new StringBuilder(128)
+                .append(routeId).append('|')
+                .append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : config.getKeyHeaders()) {
+            key.append('|').append(request.getHeaders().getFirst(header));
+        }
+        return key.toString();
+    }
+
+    private static Mono<Void> writeCached(ServerHttpResponse response, ServerHttpRequest request, CachedResponse cached, long now) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.set(HttpHeaders.AGE, Long.toString(Math.max(0, (now - cached.storedAt()) / 1000)));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (matches(request, cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body().duplicate())));
+    }
+
+    private static boolean matches(ServerHttpRequest request, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if (candidate.equals("*") || weakEquals(candidate, etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match 는 약한 비교를 쓴다 (W/ 접두사 무시)
+     */
+    private static boolean weakEquals(String a, String b) {
+        return strip(a).equals(strip(b));
+    }
+
+    private static String strip(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String weakEtag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        long value = (crc.getValue() << 32) | (body.length & 0xffffffffL);
+        byte[] bytes = new byte[8];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (value >>> (56 - 8 * i));
+        }
+        return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes) + "\"";
+    }
+
+    private Counter counter(String routeId, String result) {
+        return counters.computeIfAbsent(routeId + "/" + result, key -> Counter.builder("gateway.response-cache.requests")
+                .description("응답 캐시 처리 결과 (hit|miss|revalidated|bypass)")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 다운스트림 응답을 가로채 캐시에 저장하거나, 재검증 304 를 캐시 본문으로 바꿔 보낸다
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+
+        private final String key;
+
+        private final String routeId;
+
+        private final Config config;
+
+        private final CachedResponse stale;
+
+        CachingResponse(ServerHttpResponse delegate,
+                        ServerHttpRequest request,
+                        String key,
+                        String routeId,
+                        Config config,
+                        CachedResponse stale) {
+            super(delegate);
+            this.request = request;
+            this.key = key;
+            this.routeId = routeId;
+            this.config = config;
+            this.stale = stale;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            long now = System.currentTimeMillis();
+
+            if (stale != null && status != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                Long freshFor = freshness(getHeaders(), config);
+                CachedResponse refreshed = stale.revalidated(now,
+                        freshFor != null ? freshFor : config.getTtl().toMillis(), config.getStaleTtl().toMillis());
+                store.put(key, refreshed);
+                counter(routeId, "revalidated").increment();
+
+                getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                return Flux.from(body).doOnNext(DataBufferUtils::release)
+                        .then(writeCached(getDelegate(), request, refreshed, now));
+            }
+            if (stale != null) {
+                counter(routeId, "miss").increment();
+            }
+
+            Long freshFor = status != null && status.value() == HttpStatus.OK.value() ? freshness(getHeaders(), config) : null;
+            long contentLength = getHeaders().getContentLength();
+            if (freshFor == null || contentLength > store.maxEntrySize()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        HttpHeaders headers = getHeaders();
+                        String upstreamEtag = headers.getETag();
+                        String etag = upstreamEtag != null ? upstreamEtag : weakEtag(bytes);
+                        // 다운스트림 ETag 가 없으면 재검증할 수 없으므로 신선도가 끝나면 바로 버린다
+                        long keepFor = upstreamEtag != null ? config.getStaleTtl().toMillis() : 0;
+
+                        if (bytes.length <= store.maxEntrySize() && (freshFor > 0 || upstreamEtag != null)) {
+                            headers.setETag(etag);
+                            store.put(key, new CachedResponse(status, storedHeaders(headers), store.toBuffer(bytes),
+                                    etag, upstreamEtag != null, now, now + freshFor, now + freshFor + keepFor));
+                        }
+                        headers.set(CACHE_STATUS_HEADER, "MISS");
+
+                        if (matches(request, headers.getETag())) {
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            headers.remove(HttpHeaders.CONTENT_LENGTH);
+                            headers.remove(HttpHeaders.CONTENT_TYPE);
+                            return getDelegate().setComplete();
+                        }
+                        return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        /**
+         * 저장 가능한 응답이면 신선도(ms), 아니면 null
+         */
+        private Long freshness(HttpHeaders headers, Config config) {
+            if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return null;
+            }
+            String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+            if (contentType != null && (contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE)
+                    || contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))) {
+                return null;
+            }
+
+            long ttl = config.getTtl().toMillis();
+            String cacheControl = headers.getCacheControl();
+            if (cacheControl == null) {
+                return ttl;
+            }
+
+            Long sharedMaxAge = null;
+            Long maxAge = null;
+            for (String directive : cacheControl.split(",")) {
+                String d = directive.trim().toLowerCase();
+                if (d.equals("no-store")) {
+                    return null;
+                }
+                if (d.equals("private") && config.getKeyHeaders().isEmpty()) {
+                    return null;
+                }
+                if (d.equals("no-cache")) {
+                    return 0L;
+                }
+                if (d.startsWith("s-maxage=")) {
+                    sharedMaxAge = parseSeconds(d.substring(9));
+                } else if (d.startsWith("max-age=")) {
+                    maxAge = parseSeconds(d.substring(8));
+                }
+            }
+            Long declared = sharedMaxAge != null ? sharedMaxAge : maxAge;
+            return declared != null ? Math.min(ttl, declared * 1000) : ttl;
+        }
+
+        private HttpHeaders storedHeaders(HttpHeaders headers) {
+            HttpHeaders stored = new HttpHeaders();
+            for (String name : STORED_HEADERS) {
+                List<String> values = headers.get(name);
+                if (values != null) {
+                    stored.put(name, List.copyOf(values));
+                }
+            }
+            return HttpHeaders.readOnlyHttpHeaders(stored);
+        }
+
+        private static Long parseSeconds(String value) {
+            try {
+                return Math.max(0, Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        }
+    }
+
+    public static class Config {
+
+        /**
+         * 다운스트림이 max-age 를 주지 않았을 때의 신선도 (주었으면 둘 중 짧은 쪽)
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * 신선도가 지난 뒤에도 재검증용으로 남겨 두는 시간 (다운스트림 ETag 가 있을 때만)
+         */
+        private Duration staleTtl = Duration.ofMinutes(5);
+
+        /**
+         * 캐시 키에 포함할 요청 헤더 (예: 게이트웨이가 채우는 X-User-Id)
+         */
+        private List<String> keyHeaders = new ArrayList<>();
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public Config setTtl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Duration getStaleTtl() {
+            return staleTtl;
+        }
+
+        public Config setStaleTtl(Duration staleTtl) {
+            this.staleTtl = staleTtl;
+            return this;
+        }
+
+        public List<String> getKeyHeaders() {
+            return keyHeaders;
+        }
+
+        public Config setKeyHeaders(List<String> keyHeaders) {
+            this.keyHeaders = keyHeaders;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package shop.devictoria.api.cache;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 응답 캐시 전역 설정 ({@code gateway.response-cache.*})
+ *
+ * @param maxSize      전체 캐시 크기 상한 (본문 + 헤더 바이트)
+ * @param maxEntrySize 이보다 큰 응답은 캐시하지 않는다
+ * @param offHeap      본문을 다이렉트 버퍼에 저장
+ */
+public record ResponseCacheProperties(
+    @DefaultValue("64MB") DataSize maxSize,
+    @DefaultValue("256KB") DataSize maxEntrySize,
+    @DefaultValue("false") boolean offHeap
+) {
+}
@@ -0,0 +1,94 @@
+package shop.devictoria.api.cache;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게이트웨이 로컬 응답 캐시 저장소
+ *
+ * 모든 라우트가 하나의 Caffeine 캐시를 나눠 쓰며 크기는 본문 바이트 기준(max-size)으로 제한한다.
+ * off-heap 을 켜면 본문을 다이렉트 버퍼에 두어 힙과 GC 부담을 줄인다 (-XX:MaxDirectMemorySize 여유 필요).
+ * 적중률은 cache.gets{cache=gateway.response-cache,result=hit|miss} 로 노출된다.
+ */
+@Component
+public class ResponseCacheStore {
+
+    public static final String CACHE_NAME = "gateway.response-cache";
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheStore(Environment environment, MeterRegistry meterRegistry) {
+        this.properties = Binder.get(environment)
+                .bindOrCreate("gateway.response-cache", ResponseCacheProperties.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return remaining(response);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return remaining(response);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".bytes", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .description("캐시된 응답 바이트 (가중치 합)")
+                .tag("storage", properties.offHeap() ? "off-heap" : "heap")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    public long maxEntrySize() {
+        return properties.maxEntrySize().toBytes();
+    }
+
+    /**
+     * 본문을 저장용 버퍼로 옮긴다
+     */
+    public ByteBuffer toBuffer(byte[] body) {
+        if (!properties.offHeap()) {
+            return ByteBuffer.wrap(body).asReadOnlyBuffer();
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(body.length);
+        direct.put(body).flip();
+        return direct.asReadOnlyBuffer();
+    }
+
+    private static long remaining(CachedResponse response) {
+        return Math.max(0, response.expiresAt() - System.currentTimeMillis()) * 1_000_000L;
+    }
+}
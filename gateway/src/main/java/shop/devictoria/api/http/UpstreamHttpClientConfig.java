@@ -0,0 +1,28 @@
+package shop.devictoria.api.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * 게이트웨이 → 서비스 프록시 HttpClient 프로토콜 (gateway.upstream.protocol)
+ *
+ * h2c 면 업그레이드 없이 바로 HTTP/2 로 말을 건다(prior knowledge). 요청이 한 연결에 다중화되므로
+ * spring.cloud.gateway.httpclient.pool.max-connections(원격 주소당)를 작게 두고,
+ * 연결당 동시 스트림 수는 서비스가 SETTINGS 로 알려 주는 값을 따른다.
+ * 업스트림이 모두 h2c 를 받을 수 있을 때만 켠다. http11 이면 기존처럼 HTTP/1.1 연결 풀.
+ */
+@Configuration(proxyBeanMethods = false)
+public class UpstreamHttpClientConfig {
+
+    @Bean
+    public HttpClientCustomizer upstreamProtocolCustomizer(@Value("${gateway.upstream.protocol:h2c}") String protocol) {
+        if (!"h2c".equalsIgnoreCase(protocol)) {
+            return httpClient -> httpClient.protocol(HttpProtocol.HTTP11);
+        }
+        return httpClient -> httpClient.protocol(HttpProtocol.H2C);
+    }
+}
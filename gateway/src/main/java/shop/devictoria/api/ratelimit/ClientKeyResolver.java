@@ -0,0 +1,46 @@
+package shop.devictoria.api.ratelimit;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.security.JwtAuthenticationFilter;
+
+/**
+ * 레이트 리미트 키: 인증된 요청은 사용자 ID, 그 외는 클라이언트 IP
+ *
+ * IP 는 기본적으로 소켓 원격 주소다. 게이트웨이 앞에 프록시가 있을 때만(trusted-proxies > 0)
+ * 그 수(maxTrustedIndex)만큼 X-Forwarded-For 를 거슬러 올라가므로 클라이언트가 헤더를 조작해 한도를 우회하지 못한다.
+ */
+public class ClientKeyResolver implements KeyResolver {
+
+    private final RemoteAddressResolver addressResolver;
+
+    /**
+     * @param trustedProxies 게이트웨이 앞 신뢰하는 프록시 수 (0 이면 X-Forwarded-For 를 보지 않는다)
+     */
+    public ClientKeyResolver(int trustedProxies) {
+        this.addressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst(JwtAuthenticationFilter.USER_ID_HEADER);
+        if (userId != null) {
+            return Mono.just("user:" + userId);
+        }
+
+        InetSocketAddress address = addressResolver.resolve(exchange);
+        if (address == null) {
+            return Mono.just("ip:unknown");
+        }
+        return Mono.just("ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString()));
+    }
+}
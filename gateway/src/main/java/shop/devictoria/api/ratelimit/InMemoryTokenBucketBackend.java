@@ -0,0 +1,137 @@
+package shop.devictoria.api.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 락 없는 인메모리 토큰 버킷
+ *
+ * 버킷 상태(마지막 리필 시각 + 남은 토큰)를 long 하나에 담아 CAS 로 갱신한다.
+ * 키는 ConcurrentHashMap 의 해시 빈 단위로 흩어지므로 서로 다른 클라이언트끼리는 경합하지 않는다.
+ * 가득 찬 채로 방치된 버킷은 새 버킷과 같으므로 주기적으로 제거해 메모리를 제한한다.
+ */
+public class InMemoryTokenBucketBackend implements TokenBucketBackend, DisposableBean {
+
+    /**
+     * 토큰 1개 = 256 단위. 초당 리필량이 작아도 소수점 이하 리필을 잃지 않기 위함
+     */
+    private static final long SCALE = 256;
+
+    private static final int TOKEN_BITS = 24;
+
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    static final int MAX_BURST_CAPACITY = (int) (TOKEN_MASK / SCALE);
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final long baseMillis = System.currentTimeMillis();
+
+    private final Disposable evictionTask;
+
+    public InMemoryTokenBucketBackend(Duration evictionInterval) {
+        this.evictionTask = Flux.interval(evictionInterval, evictionInterval)
+                .subscribe(tick -> evictIdle());
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int requestedTokens) {
+        if (burstCapacity > MAX_BURST_CAPACITY) {
+            return Mono.error(new IllegalArgumentException("burst-capacity 는 " + MAX_BURST_CAPACITY + " 이하여야 합니다"));
+        }
+        long now = nowMillis();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(replenishRate, burstCapacity, now));
+        return Mono.just(bucket.tryConsume(requestedTokens, now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    void evictIdle() {
+        long now = nowMillis();
+        buckets.forEach((key, bucket) -> {
+            if (bucket.isFull(now)) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    private long nowMillis() {
+        return System.currentTimeMillis() - baseMillis;
+    }
+
+    @Override
+    public void destroy() {
+        evictionTask.dispose();
+    }
+
+    static final class Bucket {
+
+        private final long replenishUnitsPerSecond;
+
+        private final long capacityUnits;
+
+        /**
+         * 빈 버킷이 가득 차는 데 걸리는 시간
+         */
+        private final long fillMillis;
+
+        /**
+         * 상위 40비트: 마지막 리필 시각(ms), 하위 24비트: 남은 토큰(SCALE 단위)
+         */
+        private final AtomicLong state;
+
+        Bucket(int replenishRate, int burstCapacity, long now) {
+            this.replenishUnitsPerSecond = replenishRate * SCALE;
+            this.capacityUnits = burstCapacity * SCALE;
+            this.fillMillis = (capacityUnits * 1000 + replenishUnitsPerSecond - 1) / replenishUnitsPerSecond;
+            this.state = new AtomicLong(pack(now, capacityUnits));
+        }
+
+        Decision tryConsume(int requestedTokens, long now) {
+            long requestedUnits = requestedTokens * SCALE;
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long units = current & TOKEN_MASK;
+
+                long elapsed = Math.max(0, now - last);
+                if (elapsed >= fillMillis) {
+                    units = capacityUnits;
+                    last = now;
+                } else if (elapsed > 0) {
+                    long refill = elapsed * replenishUnitsPerSecond / 1000;
+                    // 리필로 환산된 시간만큼만 시계를 전진시켜 나머지를 다음 리필로 넘긴다
+                    last += refill * 1000 / replenishUnitsPerSecond;
+                    units = Math.min(capacityUnits, units + refill);
+                    if (units == capacityUnits) {
+                        last = now;
+                    }
+                }
+
+                boolean allowed = units >= requestedUnits;
+                long remaining = allowed ? units - requestedUnits : units;
+                if (state.compareAndSet(current, pack(last, remaining))) {
+                    return new Decision(allowed, remaining / SCALE);
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            long current = state.get();
+            return now - (current >>> TOKEN_BITS) >= fillMillis || (current & TOKEN_MASK) == capacityUnits;
+        }
+
+        private static long pack(long millis, long units) {
+            return (millis << TOKEN_BITS) | units;
+        }
+    }
+}
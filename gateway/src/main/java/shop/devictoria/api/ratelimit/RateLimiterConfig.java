@@ -0,0 +1,73 @@
+package shop.devictoria.api.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 레이트 리미터 구성
+ *
+ * gateway.rate-limit.backend: memory(기본) | redis
+ * redis 백엔드는 -Predis 로 빌드해 spring-boot-starter-data-redis-reactive 가 jar 에 들어 있어야 하며,
+ * 없이 빌드한 jar 를 redis 로 설정하면 메모리 백엔드로 넘어가지 않고 기동을 멈춘다.
+ */
+@Configuration
+public class RateLimiterConfig {
+
+    @Bean
+    @Primary
+    public TokenBucketRateLimiter tokenBucketRateLimiter(TokenBucketBackend tokenBucketBackend,
+                                                         ConfigurationService configurationService,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${gateway.rate-limit.default.replenish-rate:10}") int replenishRate,
+                                                         @Value("${gateway.rate-limit.default.burst-capacity:20}") int burstCapacity) {
+        TokenBucketRateLimiter.Config defaultConfig = new TokenBucketRateLimiter.Config()
+                .setReplenishRate(replenishRate)
+                .setBurstCapacity(burstCapacity);
+        return new TokenBucketRateLimiter(tokenBucketBackend, defaultConfig, configurationService, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ClientKeyResolver clientKeyResolver(@Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        return new ClientKeyResolver(trustedProxies);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+    public InMemoryTokenBucketBackend inMemoryTokenBucketBackend(
+            @Value("${gateway.rate-limit.eviction-interval:60s}") Duration evictionInterval) {
+        return new InMemoryTokenBucketBackend(evictionInterval);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.ReactiveStringRedisTemplate")
+    @ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "redis")
+    static class RedisBackendConfig {
+
+        @Bean
+        public RedisTokenBucketBackend redisTokenBucketBackend(ReactiveStringRedisTemplate redisTemplate) {
+            return new RedisTokenBucketBackend(redisTemplate);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnMissingClass("org.springframework.data.redis.core.ReactiveStringRedisTemplate")
+    @ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "redis")
+    static class MissingRedisConfig {
+
+        MissingRedisConfig() {
+            throw new IllegalStateException("gateway.rate-limit.backend=redis 는 -Predis 로 빌드한 jar 에서만 쓸 수 있습니다");
+        }
+    }
+}
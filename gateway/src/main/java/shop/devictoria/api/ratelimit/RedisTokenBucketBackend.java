@@ -0,0 +1,47 @@
+package shop.devictoria.api.ratelimit;
+
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis(또는 Redis 프로토콜 호환 로컬 대체 서버) 공유 토큰 버킷
+ *
+ * 리필/차감을 Lua 스크립트 한 번으로 원자적으로 처리하므로 레플리카 수와 관계없이
+ * 같은 키는 같은 버킷을 쓴다. 시각은 Redis 서버 시계를 기준으로 한다.
+ */
+public class RedisTokenBucketBackend implements TokenBucketBackend {
+
+    private static final String KEY_PREFIX = "gateway:ratelimit:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    private final RedisScript<List<Long>> script;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RedisTokenBucketBackend(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("ratelimit/token_bucket.lua")));
+        redisScript.setResultType(List.class);
+        this.script = redisScript;
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int requestedTokens) {
+        List<String> args = List.of(
+                String.valueOf(replenishRate),
+                String.valueOf(burstCapacity),
+                String.valueOf(requestedTokens));
+
+        return redisTemplate.execute(script, List.of(KEY_PREFIX + key), args)
+                .next()
+                .map(result -> new Decision(result.get(0) == 1L, result.get(1)));
+    }
+}
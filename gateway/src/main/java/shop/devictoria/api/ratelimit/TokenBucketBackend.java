@@ -0,0 +1,23 @@
+package shop.devictoria.api.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷 상태 저장소
+ *
+ * 기본은 게이트웨이 프로세스 내부 메모리이고, 레플리카 간 한도를 공유해야 하면
+ * gateway.rate-limit.backend=redis 로 공유 저장소 구현을 선택한다.
+ */
+public interface TokenBucketBackend {
+
+    /**
+     * key 버킷에서 requestedTokens 만큼 꺼내 본다
+     */
+    Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int requestedTokens);
+
+    record Decision(
+        boolean allowed,
+        long tokensRemaining
+    ) {
+    }
+}
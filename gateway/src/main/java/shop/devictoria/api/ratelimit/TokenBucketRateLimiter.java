@@ -0,0 +1,120 @@
+package shop.devictoria.api.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * RequestRateLimiter 필터용 토큰 버킷 구현
+ *
+ * 라우트별 한도는 필터 인자로 지정한다.
+ * <pre>
+ * - name: RequestRateLimiter
+ *   args:
+ *     token-bucket-rate-limiter.replenish-rate: 5
+ *     token-bucket-rate-limiter.burst-capacity: 10
+ * </pre>
+ * 버킷 저장소 장애 시에는 요청을 막지 않는다(fail-open).
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+
+    private final TokenBucketBackend backend;
+
+    private final Config defaultConfig;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(TokenBucketBackend backend,
+                                  Config defaultConfig,
+                                  ConfigurationService configurationService,
+                                  MeterRegistry meterRegistry) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.backend = backend;
+        this.defaultConfig = defaultConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+
+        return backend.tryConsume(routeId + ":" + id,
+                        config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens())
+                .map(decision -> {
+                    counter(routeId, decision.allowed()).increment();
+                    return new Response(decision.allowed(), headers(config, decision.tokensRemaining()));
+                })
+                .onErrorResume(e -> {
+                    log.warn("레이트 리미터 저장소 오류, 요청 허용 (route={}): {}", routeId, e.getMessage());
+                    counter(routeId, true).increment();
+                    return Mono.just(new Response(true, headers(config, -1)));
+                });
+    }
+
+    private Counter counter(String routeId, boolean allowed) {
+        String outcome = allowed ? "allowed" : "rejected";
+        return counters.computeIfAbsent(routeId + "/" + outcome, key -> Counter.builder("gateway.ratelimiter.requests")
+                .description("레이트 리미터 판정 결과")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static Map<String, String> headers(Config config, long tokensRemaining) {
+        return Map.of(
+                "X-RateLimit-Remaining", Long.toString(tokensRemaining),
+                "X-RateLimit-Replenish-Rate", Integer.toString(config.getReplenishRate()),
+                "X-RateLimit-Burst-Capacity", Integer.toString(config.getBurstCapacity()),
+                "X-RateLimit-Requested-Tokens", Integer.toString(config.getRequestedTokens()));
+    }
+
+    public static class Config {
+
+        private int replenishRate = 10;
+
+        private int burstCapacity = 20;
+
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package shop.devictoria.api.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
+/**
+ * CircuitBreaker 필터의 폴백 (fallbackUri: forward:/fallback/{service})
+ *
+ * 서킷이 열렸거나 다운스트림이 실패/시간 초과되면 다른 라우트를 붙잡지 않고 바로 503 을 돌려준다.
+ */
+@RestController
+public class FallbackController {
+
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    @RequestMapping("/fallback/{service}")
+    public ResponseEntity<Map<String, Object>> fallback(@PathVariable String service, ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", cause instanceof CallNotPermittedException
+                ? service + " 서비스가 일시적으로 차단되었습니다. 잠시 후 다시 시도해 주세요"
+                : service + " 서비스가 응답하지 않습니다. 잠시 후 다시 시도해 주세요");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(body);
+    }
+}
@@ -0,0 +1,22 @@
+package shop.devictoria.api.resilience;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 라우트 서킷 브레이커 설정 ({@code gateway.circuit-breaker.*})
+ *
+ * @param timeout 다운스트림 응답 대기 상한. 넘으면 실패로 기록하고 폴백으로 보낸다
+ */
+public record RouteCircuitBreakerProperties(
+    @DefaultValue("50") float failureRateThreshold,
+    @DefaultValue("3s") Duration slowCallDurationThreshold,
+    @DefaultValue("80") float slowCallRateThreshold,
+    @DefaultValue("50") int slidingWindowSize,
+    @DefaultValue("20") int minimumNumberOfCalls,
+    @DefaultValue("20s") Duration waitDurationInOpenState,
+    @DefaultValue("5") int permittedCallsInHalfOpenState,
+    @DefaultValue("10s") Duration timeout
+) {
+}
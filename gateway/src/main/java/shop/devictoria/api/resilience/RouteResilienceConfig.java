@@ -0,0 +1,51 @@
+package shop.devictoria.api.resilience;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+
+/**
+ * 라우트 CircuitBreaker 필터가 쓰는 Resilience4j 설정
+ *
+ * 브레이커는 필터의 name 인자(다운스트림 서비스 이름)마다 하나씩 생기므로, 같은 서비스로 가는 라우트들은 상태를 공유하고
+ * 한 서비스가 망가져도 다른 서비스 라우트는 영향을 받지 않는다.
+ * 상태와 호출 결과는 resilience4j.circuitbreaker.* 메트릭으로 노출된다.
+ */
+@Configuration
+public class RouteResilienceConfig {
+
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> routeCircuitBreakerCustomizer(Environment environment) {
+        RouteCircuitBreakerProperties properties = Binder.get(environment)
+                .bindOrCreate("gateway.circuit-breaker", RouteCircuitBreakerProperties.class);
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallDurationThreshold())
+                .slowCallRateThreshold(properties.slowCallRateThreshold())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        // 기본 TimeLimiter(1초)는 제공자 토큰 교환을 거치는 로그인 요청을 끊어 버리므로 명시적으로 늘린다
+        TimeLimiterConfig timeLimiterConfig = TimeLimiterConfig.custom()
+                .timeoutDuration(properties.timeout())
+                .build();
+
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .timeLimiterConfig(timeLimiterConfig)
+                .build());
+    }
+}
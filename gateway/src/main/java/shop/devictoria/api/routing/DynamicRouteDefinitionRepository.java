@@ -0,0 +1,322 @@
+package shop.devictoria.api.routing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.filter.factory.GatewayFilterFactory;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.handler.predicate.RoutePredicateFactory;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionRepository;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 런타임에 교체 가능한 라우트 저장소
+ *
+ * 라우트와 업스트림은 {@link RoutingTable} 스냅샷 하나로 묶여 AtomicReference 로 통째로 바뀐다.
+ * 새 테이블은 검증까지 끝낸 뒤에만 교체하고 RefreshRoutesEvent 를 발행하므로,
+ * 게이트웨이는 새 라우트를 다 만든 다음 한 번에 갈아 끼우고 요청 경로에는 락이 없다.
+ * 변경 출처는 라우트 파일(file: 이면 주기적으로 변경 감지)과 /admin/routes 이며 마지막 적용이 이긴다.
+ */
+@Component
+public class DynamicRouteDefinitionRepository implements RouteDefinitionRepository, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DynamicRouteDefinitionRepository.class);
+
+    private static final String LB_SCHEME = "lb";
+
+    private final RoutingProperties properties;
+
+    private final ConfigurableEnvironment environment;
+
+    private final ResourceLoader resourceLoader;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<String> predicateNames = new HashSet<>();
+
+    private final Set<String> filterNames = new HashSet<>();
+
+    private final AtomicReference<RoutingTable> table = new AtomicReference<>();
+
+    private volatile long fileLastModified;
+
+    private Disposable watchTask;
+
+    public DynamicRouteDefinitionRepository(ConfigurableEnvironment environment,
+                                            ResourceLoader resourceLoader,
+                                            ApplicationEventPublisher eventPublisher,
+                                            List<RoutePredicateFactory<?>> predicateFactories,
+                                            List<GatewayFilterFactory<?>> filterFactories) {
+        this.properties = Binder.get(environment).bindOrCreate("gateway.routing", RoutingProperties.class);
+        this.environment = environment;
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        predicateFactories.forEach(factory -> predicateNames.add(factory.name()));
+        filterFactories.forEach(factory -> filterNames.add(factory.name()));
+    }
+
+    /**
+     * 기동 시 라우트 파일을 읽는다. 라우트 없이 뜨는 것보다 실패가 낫다
+     */
+    @Override
+    public void afterPropertiesSet() {
+        Resource resource = resourceLoader.getResource(properties.location());
+        table.set(build(read(resource), properties.location()));
+        log.info("라우트 {}개 적용 ({})", table.get().routes().size(), properties.location());
+
+        if (resource.isFile()) {
+            fileLastModified = lastModified(resource);
+            watchTask = Flux.interval(properties.watchInterval(), properties.watchInterval())
+                    .onBackpressureDrop()
+                    .concatMap(tick -> Mono.fromRunnable(() -> reloadIfChanged(resource))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> Mono.empty()))
+                    .subscribe();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (watchTask != null) {
+            watchTask.dispose();
+        }
+    }
+
+    public RoutingProperties properties() {
+        return properties;
+    }
+
+    public RoutingTable table() {
+        return table.get();
+    }
+
+    /**
+     * 요청 경로에서 호출. volatile 읽기 한 번
+     */
+    public UpstreamPool upstream(String name) {
+        return table.get().upstreams().get(name);
+    }
+
+    /**
+     * 라우트와 업스트림 전체 교체
+     */
+    public RoutingTable apply(RoutesDocument document, String source) {
+        RoutingTable applied = swap(current -> build(document, source));
+        log.info("라우트 {}개 적용 ({})", applied.routes().size(), source);
+        return applied;
+    }
+
+    /**
+     * 라우트 파일을 다시 읽어 적용
+     */
+    public RoutingTable reload() {
+        Resource resource = resourceLoader.getResource(properties.location());
+        RoutesDocument document = read(resource);
+        if (resource.isFile()) {
+            fileLastModified = lastModified(resource);
+        }
+        return apply(document, properties.location());
+    }
+
+    @Override
+    public Flux<RouteDefinition> getRouteDefinitions() {
+        return Flux.fromIterable(table.get().routes());
+    }
+
+    /**
+     * 라우트 하나 추가/교체 (actuator gateway 엔드포인트용). 업스트림은 그대로 둔다
+     */
+    @Override
+    public Mono<Void> save(Mono<RouteDefinition> route) {
+        return route.doOnNext(definition -> {
+            swap(current -> {
+                List<RouteDefinition> routes = new ArrayList<>(current.routes());
+                routes.removeIf(existing -> existing.getId().equals(definition.getId()));
+                routes.add(definition);
+                return build(routes, current.upstreams(), "save:" + definition.getId());
+            });
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> delete(Mono<String> routeId) {
+        return routeId.flatMap(id -> {
+            if (table.get().routes().stream().noneMatch(route -> id.equals(route.getId()))) {
+                return Mono.error(new NotFoundException("RouteDefinition not found: " + id));
+            }
+            swap(current -> {
+                List<RouteDefinition> routes = new ArrayList<>(current.routes());
+                routes.removeIf(existing -> existing.getId().equals(id));
+                return build(routes, current.upstreams(), "delete:" + id);
+            });
+            return Mono.empty();
+        });
+    }
+
+    private void reloadIfChanged(Resource resource) {
+        long modified = lastModified(resource);
+        if (modified == fileLastModified) {
+            return;
+        }
+        fileLastModified = modified;
+        try {
+            apply(read(resource), properties.location());
+        } catch (InvalidRoutesException e) {
+            log.warn("라우트 파일 변경을 적용하지 않음 (이전 라우트 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 교체는 드물어 직렬화해도 되고, 그래야 save/delete 가 동시에 와도 서로의 변경을 잃지 않는다
+     */
+    private synchronized RoutingTable swap(UnaryOperator<RoutingTable> change) {
+        RoutingTable next = change.apply(table.get());
+        table.set(next);
+        eventPublisher.publishEvent(new RefreshRoutesEvent(this));
+        return next;
+    }
+
+    private RoutesDocument read(Resource resource) {
+        if (!resource.exists()) {
+            throw new InvalidRoutesException("라우트 파일이 없습니다: " + properties.location());
+        }
+
+        List<PropertySource<?>> sources;
+        try {
+            sources = new YamlPropertySourceLoader().load(properties.location(), resource);
+        } catch (IOException | RuntimeException e) {
+            throw new InvalidRoutesException("라우트 파일을 읽지 못했습니다: " + e.getMessage(), e);
+        }
+
+        // ${AUTHSERVICE_INSTANCES:...} 처럼 환경 변수/설정값을 참조할 수 있다
+        Binder binder = new Binder(ConfigurationPropertySources.from(sources),
+                new PropertySourcesPlaceholdersResolver(environment),
+                ApplicationConversionService.getSharedInstance());
+        return new RoutesDocument(
+                binder.bind("routes", Bindable.listOf(RouteDefinition.class)).orElse(List.of()),
+                binder.bind("upstreams", Bindable.mapOf(String.class, UpstreamDefinition.class)).orElse(Map.of()));
+    }
+
+    private RoutingTable build(RoutesDocument document, String source) {
+        if (document.routes() == null || document.routes().isEmpty()) {
+            throw new InvalidRoutesException("라우트가 비어 있습니다");
+        }
+
+        Map<String, UpstreamPool> current = table.get() == null ? Map.of() : table.get().upstreams();
+        Map<String, UpstreamPool> upstreams = new LinkedHashMap<>();
+        if (document.upstreams() != null) {
+            document.upstreams().forEach((name, definition) ->
+                    upstreams.put(name, pool(name, definition, current.get(name))));
+        }
+        return build(document.routes(), upstreams, source);
+    }
+
+    private RoutingTable build(List<RouteDefinition> routes, Map<String, UpstreamPool> upstreams, String source) {
+        Set<String> ids = new HashSet<>();
+        for (RouteDefinition route : routes) {
+            validate(route, upstreams);
+            if (!ids.add(route.getId())) {
+                throw new InvalidRoutesException("라우트 id 중복: " + route.getId());
+            }
+        }
+        return new RoutingTable(List.copyOf(routes), Collections.unmodifiableMap(new LinkedHashMap<>(upstreams)),
+                source, Instant.now());
+    }
+
+    /**
+     * 게이트웨이가 라우트를 만들다 실패하면 이전 라우트를 유지하므로 업스트림만 바뀌는 어긋남이 생긴다.
+     * 그래서 적용 전에 이름과 참조를 미리 확인한다
+     */
+    private void validate(RouteDefinition route, Map<String, UpstreamPool> upstreams) {
+        if (route.getId() == null || route.getId().isBlank()) {
+            throw new InvalidRoutesException("id 가 없는 라우트가 있습니다");
+        }
+        URI uri = route.getUri();
+        if (uri == null || uri.getScheme() == null) {
+            throw new InvalidRoutesException(route.getId() + ": uri 가 없습니다");
+        }
+        if (LB_SCHEME.equals(uri.getScheme()) && !upstreams.containsKey(uri.getHost())) {
+            throw new InvalidRoutesException(route.getId() + ": 정의되지 않은 업스트림 " + uri.getHost());
+        }
+        for (PredicateDefinition predicate : route.getPredicates()) {
+            if (!predicateNames.contains(predicate.getName())) {
+                throw new InvalidRoutesException(route.getId() + ": 알 수 없는 predicate " + predicate.getName());
+            }
+        }
+        for (FilterDefinition filter : route.getFilters()) {
+            if (!filterNames.contains(filter.getName())) {
+                throw new InvalidRoutesException(route.getId() + ": 알 수 없는 filter " + filter.getName());
+            }
+        }
+    }
+
+    /**
+     * 기존 풀에 같은 URL 인스턴스가 있으면 그대로 넘겨받아 처리 중 요청 수와 헬스를 잇는다
+     */
+    private static UpstreamPool pool(String name, UpstreamDefinition definition, UpstreamPool previous) {
+        if (definition.instances() == null || definition.instances().isEmpty()) {
+            throw new InvalidRoutesException("업스트림 " + name + ": 인스턴스가 없습니다");
+        }
+
+        Map<URI, UpstreamInstance> existing = new HashMap<>();
+        if (previous != null) {
+            previous.instances().forEach(instance -> existing.put(instance.uri(), instance));
+        }
+
+        List<UpstreamInstance> instances = new ArrayList<>();
+        for (URI uri : definition.instances()) {
+            if (uri.getHost() == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+                throw new InvalidRoutesException("업스트림 " + name + ": 잘못된 인스턴스 URL " + uri);
+            }
+            instances.add(existing.getOrDefault(uri, new UpstreamInstance(uri)));
+        }
+
+        String healthPath = definition.healthPath() == null || definition.healthPath().isBlank()
+                ? UpstreamDefinition.DEFAULT_HEALTH_PATH
+                : definition.healthPath();
+        return new UpstreamPool(name, instances, healthPath);
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package shop.devictoria.api.routing;
+
+/**
+ * 라우트 파일/관리 요청이 유효하지 않아 적용하지 않았음
+ */
+public class InvalidRoutesException extends RuntimeException {
+
+    public InvalidRoutesException(String message) {
+        super(message);
+    }
+
+    public InvalidRoutesException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
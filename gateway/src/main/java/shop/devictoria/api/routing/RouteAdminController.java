@@ -0,0 +1,112 @@
+package shop.devictoria.api.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 라우팅 테이블 관리 API (게이트웨이 자체 엔드포인트, 다운스트림으로 라우팅되지 않음)
+ *
+ * X-Admin-Token 헤더가 gateway.routing.admin-token 과 같아야 하며, 토큰이 설정되지 않으면 404 로 숨긴다.
+ * 운영에서는 내부망에서만 닿도록 노출 범위를 제한한다.
+ */
+@RestController
+@RequestMapping("/admin/routes")
+public class RouteAdminController {
+
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final DynamicRouteDefinitionRepository repository;
+
+    private final byte[] adminToken;
+
+    public RouteAdminController(DynamicRouteDefinitionRepository repository) {
+        this.repository = repository;
+        String token = repository.properties().adminToken();
+        this.adminToken = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 적용 중인 라우트와 업스트림 인스턴스 상태
+     */
+    @GetMapping
+    public RoutingTableView current(@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token) {
+        authorize(token);
+        return RoutingTableView.of(repository.table());
+    }
+
+    /**
+     * 라우트와 업스트림 전체 교체. 검증에 실패하면 아무것도 바꾸지 않고 400
+     */
+    @PutMapping
+    public RoutingTableView replace(@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+                                    @RequestBody RoutesDocument document) {
+        authorize(token);
+        return RoutingTableView.of(repository.apply(document, "admin"));
+    }
+
+    /**
+     * 라우트 파일을 다시 읽어 적용 (watch 주기를 기다리지 않을 때)
+     */
+    @PostMapping("/reload")
+    public Mono<RoutingTableView> reload(@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token) {
+        authorize(token);
+        return Mono.fromCallable(repository::reload)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(RoutingTableView::of);
+    }
+
+    @ExceptionHandler(InvalidRoutesException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, Object> invalid(InvalidRoutesException e) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", e.getMessage());
+        return body;
+    }
+
+    private void authorize(String token) {
+        if (adminToken == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    public record RoutingTableView(String source,
+                                   Instant loadedAt,
+                                   List<RouteDefinition> routes,
+                                   Map<String, List<InstanceView>> upstreams) {
+
+        static RoutingTableView of(RoutingTable table) {
+            Map<String, List<InstanceView>> upstreams = new LinkedHashMap<>();
+            table.upstreams().forEach((name, pool) -> upstreams.put(name, pool.instances().stream()
+                    .map(instance -> new InstanceView(instance.uri().toString(), instance.healthy(), instance.outstanding()))
+                    .toList()));
+            return new RoutingTableView(table.source(), table.loadedAt(), table.routes(), upstreams);
+        }
+    }
+
+    public record InstanceView(String uri, boolean healthy, int outstanding) {
+    }
+}
@@ -0,0 +1,15 @@
+package shop.devictoria.api.routing;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+/**
+ * 라우트 파일(routes.yaml) 및 PUT /admin/routes 본문
+ *
+ * @param routes    spring.cloud.gateway.routes 와 같은 형식의 라우트 목록
+ * @param upstreams 업스트림 이름 → 인스턴스 목록
+ */
+public record RoutesDocument(List<RouteDefinition> routes, Map<String, UpstreamDefinition> upstreams) {
+}
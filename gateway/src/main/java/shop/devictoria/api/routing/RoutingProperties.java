@@ -0,0 +1,35 @@
+package shop.devictoria.api.routing;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 동적 라우팅 설정 ({@code gateway.routing.*})
+ *
+ * @param location      라우트 파일 위치. file: 경로면 watch-interval 마다 변경을 감지해 다시 읽는다
+ * @param watchInterval 라우트 파일 변경 확인 주기
+ * @param adminToken    /admin/routes 호출 토큰 (X-Admin-Token). 비어 있으면 관리 엔드포인트를 막는다
+ * @param healthCheck   업스트림 인스턴스 능동 헬스 체크
+ */
+public record RoutingProperties(
+    @DefaultValue("classpath:routes.yaml") String location,
+    @DefaultValue("5s") Duration watchInterval,
+    String adminToken,
+    @DefaultValue HealthCheck healthCheck
+) {
+
+    /**
+     * @param interval           체크 주기
+     * @param timeout            체크 1회 응답 대기 상한
+     * @param unhealthyThreshold 연속 실패가 이만큼 쌓이면 로드밸런싱 대상에서 뺀다
+     * @param healthyThreshold   연속 성공이 이만큼 쌓이면 다시 넣는다
+     */
+    public record HealthCheck(
+        @DefaultValue("5s") Duration interval,
+        @DefaultValue("1s") Duration timeout,
+        @DefaultValue("3") int unhealthyThreshold,
+        @DefaultValue("2") int healthyThreshold
+    ) {
+    }
+}
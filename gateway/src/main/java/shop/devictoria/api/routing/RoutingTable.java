@@ -0,0 +1,19 @@
+package shop.devictoria.api.routing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+/**
+ * 적용 중인 라우팅 테이블 스냅샷. 불변이며 변경은 항상 새 스냅샷으로 통째로 교체한다
+ *
+ * @param source   출처 (파일 위치, admin 등)
+ * @param loadedAt 적용 시각
+ */
+public record RoutingTable(List<RouteDefinition> routes,
+                           Map<String, UpstreamPool> upstreams,
+                           String source,
+                           Instant loadedAt) {
+}
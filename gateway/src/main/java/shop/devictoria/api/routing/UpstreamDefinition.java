@@ -0,0 +1,15 @@
+package shop.devictoria.api.routing;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 라우트 파일의 업스트림 정의. 라우트는 uri: lb://{이름} 으로 참조한다
+ *
+ * @param instances  인스턴스 기본 URL 목록 (http://host:port)
+ * @param healthPath 능동 헬스 체크 경로. 없으면 {@value #DEFAULT_HEALTH_PATH}
+ */
+public record UpstreamDefinition(List<URI> instances, String healthPath) {
+
+    public static final String DEFAULT_HEALTH_PATH = "/actuator/health";
+}
@@ -0,0 +1,84 @@
+package shop.devictoria.api.routing;
+
+import java.net.URI;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 인스턴스 능동 헬스 체크
+ *
+ * 주기마다 현재 라우팅 테이블의 모든 인스턴스에 health-path 로 GET 을 보내고, 2xx 가 아니거나 시간 초과면 실패로 센다.
+ * 연속 실패/성공 임계값을 넘을 때만 상태를 바꿔 일시적인 지연으로 인스턴스가 깜빡이지 않게 한다.
+ */
+@Component
+public class UpstreamHealthChecker implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamHealthChecker.class);
+
+    private final DynamicRouteDefinitionRepository repository;
+
+    private final RoutingProperties.HealthCheck healthCheck;
+
+    private final WebClient webClient;
+
+    private Disposable checkTask;
+
+    public UpstreamHealthChecker(DynamicRouteDefinitionRepository repository,
+                                 WebClient.Builder webClientBuilder) {
+        this.repository = repository;
+        this.healthCheck = repository.properties().healthCheck();
+        this.webClient = webClientBuilder.build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkTask = Flux.interval(healthCheck.interval(), healthCheck.interval())
+                .onBackpressureDrop()
+                .concatMap(tick -> checkAll())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (checkTask != null) {
+            checkTask.dispose();
+        }
+    }
+
+    private Mono<Void> checkAll() {
+        return Flux.fromIterable(repository.table().upstreams().values())
+                .flatMap(pool -> Flux.fromIterable(pool.instances())
+                        .flatMap(instance -> check(pool, instance)))
+                .then();
+    }
+
+    private Mono<Void> check(UpstreamPool pool, UpstreamInstance instance) {
+        URI healthUri = instance.uri().resolve(pool.healthPath());
+        return webClient.get()
+                .uri(healthUri)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(healthCheck.timeout())
+                .map(response -> true)
+                .onErrorReturn(false)
+                .doOnNext(success -> {
+                    if (instance.record(success, healthCheck)) {
+                        if (success) {
+                            log.info("업스트림 {} 인스턴스 복구: {}", pool.name(), instance.uri());
+                        } else {
+                            log.warn("업스트림 {} 인스턴스 제외 (헬스 체크 연속 실패): {}", pool.name(), instance.uri());
+                        }
+                    }
+                })
+                .then();
+    }
+}
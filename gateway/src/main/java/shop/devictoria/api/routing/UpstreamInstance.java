@@ -0,0 +1,71 @@
+package shop.devictoria.api.routing;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업스트림 인스턴스 하나와 그 런타임 상태 (처리 중 요청 수, 헬스)
+ *
+ * 라우트 테이블이 교체되어도 같은 URL 의 인스턴스는 이 객체를 그대로 넘겨받아 상태가 이어진다.
+ */
+public final class UpstreamInstance {
+
+    private final URI uri;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private volatile boolean healthy = true;
+
+    /**
+     * 헬스 체커만 갱신한다 (체크는 인스턴스별로 순차 실행)
+     */
+    private int consecutiveSuccesses;
+
+    private int consecutiveFailures;
+
+    UpstreamInstance(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    public boolean healthy() {
+        return healthy;
+    }
+
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * 헬스 체크 결과 반영. 상태가 바뀌었으면 true
+     */
+    synchronized boolean record(boolean success, RoutingProperties.HealthCheck healthCheck) {
+        if (success) {
+            consecutiveFailures = 0;
+            consecutiveSuccesses++;
+            if (!healthy && consecutiveSuccesses >= healthCheck.healthyThreshold()) {
+                healthy = true;
+                return true;
+            }
+        } else {
+            consecutiveSuccesses = 0;
+            consecutiveFailures++;
+            if (healthy && consecutiveFailures >= healthCheck.unhealthyThreshold()) {
+                healthy = false;
+                return true;
+            }
+        }
+        return false;
+    }
+}
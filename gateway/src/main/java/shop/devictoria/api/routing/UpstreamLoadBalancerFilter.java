@@ -0,0 +1,75 @@
+package shop.devictoria.api.routing;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * lb://{업스트림} 라우트의 인스턴스 선택 필터
+ *
+ * RouteToRequestUrlFilter 가 만든 요청 URL 의 호스트를 {@link UpstreamPool#choose()} 로 고른 인스턴스로 바꾼다.
+ * 처리 중 요청 수는 다운스트림 응답 헤더를 받아 클라이언트 응답을 커밋할 때까지(또는 취소/오류까지) 센다.
+ * 본문 전달 시간은 인스턴스 부하가 아니므로 세지 않는다.
+ * Retry 필터가 다시 돌면 URL 이 lb:// 로 다시 만들어지므로 재시도는 다른 인스턴스로 갈 수 있다.
+ */
+@Component
+public class UpstreamLoadBalancerFilter implements GlobalFilter, Ordered {
+
+    /**
+     * spring-cloud-loadbalancer 의 ReactiveLoadBalancerClientFilter 와 같은 위치
+     */
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 150;
+
+    private static final String LB_SCHEME = "lb";
+
+    private final DynamicRouteDefinitionRepository repository;
+
+    public UpstreamLoadBalancerFilter(DynamicRouteDefinitionRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || !LB_SCHEME.equals(url.getScheme())) {
+            return chain.filter(exchange);
+        }
+
+        UpstreamPool pool = repository.upstream(url.getHost());
+        if (pool == null) {
+            return Mono.error(NotFoundException.create(false, "업스트림이 없습니다: " + url.getHost()));
+        }
+
+        UpstreamInstance instance = pool.choose();
+        URI target = UpstreamPool.target(url, instance);
+
+        ServerWebExchangeUtils.addOriginalRequestUrl(exchange, url);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, target);
+
+        // 커밋 콜백과 doFinally 중 먼저 오는 쪽에서 한 번만 놓는다 (재시도로 앞선 시도의 콜백이 남아 있어도)
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                instance.release();
+            }
+        };
+        instance.acquire();
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(release));
+        return chain.filter(exchange).doFinally(signal -> release.run());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,118 @@
+package shop.devictoria.api.routing;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 하나의 인스턴스 묶음과 인스턴스 선택
+ *
+ * 두 개를 무작위로 뽑아 처리 중 요청이 적은 쪽을 고른다 (power of two choices).
+ * 전체를 훑는 least-outstanding 과 거의 같은 분산을 내면서, 여러 요청이 동시에 같은 인스턴스로 몰리는 일이 적다.
+ * 건강한 인스턴스가 하나도 없으면 헬스 체크 오판일 수 있으므로 전체 중에서 고른다 (panic mode).
+ */
+public final class UpstreamPool {
+
+    private final String name;
+
+    private final List<UpstreamInstance> instances;
+
+    private final String healthPath;
+
+    UpstreamPool(String name, List<UpstreamInstance> instances, String healthPath) {
+        this.name = name;
+        this.instances = List.copyOf(instances);
+        this.healthPath = healthPath;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<UpstreamInstance> instances() {
+        return instances;
+    }
+
+    public String healthPath() {
+        return healthPath;
+    }
+
+    public UpstreamInstance choose() {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+
+        int healthy = 0;
+        for (UpstreamInstance instance : instances) {
+            if (instance.healthy()) {
+                healthy++;
+            }
+        }
+        boolean panic = healthy == 0;
+        int candidates = panic ? size : healthy;
+        if (candidates == 1) {
+            return nth(0, panic);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates);
+        int second = random.nextInt(candidates - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        UpstreamInstance a = nth(first, panic);
+        UpstreamInstance b = nth(second, panic);
+        return a.outstanding() <= b.outstanding() ? a : b;
+    }
+
+    /**
+     * 게이트웨이가 직접 보내는 내부 호출(토큰 인트로스펙션 등)을 고른 인스턴스로 보낸다.
+     * 처리 중 요청 수는 호출이 끝날 때(완료/오류/취소)까지 센다
+     *
+     * @param url     lb://{업스트림}/... 형식의 URL (호스트만 인스턴스로 바뀐다)
+     * @param request 인스턴스 URL 로 호출
+     */
+    public <T> Mono<T> call(URI url, Function<URI, Mono<T>> request) {
+        return Mono.defer(() -> {
+            UpstreamInstance instance = choose();
+            instance.acquire();
+            // request 가 바로 예외를 던져도 처리 중 요청 수를 놓도록 한 번 더 지연시킨다
+            return Mono.defer(() -> request.apply(target(url, instance))).doFinally(signal -> instance.release());
+        });
+    }
+
+    /**
+     * url 의 스킴·호스트·포트를 인스턴스 것으로 바꾼다
+     */
+    static URI target(URI url, UpstreamInstance instance) {
+        return UriComponentsBuilder.fromUri(url)
+                .scheme(instance.uri().getScheme())
+                .host(instance.uri().getHost())
+                .port(instance.uri().getPort())
+                .build(true)
+                .toUri();
+    }
+
+    /**
+     * n 번째 후보. 인스턴스 수가 적어 배열을 새로 만들기보다 훑는 편이 싸다
+     */
+    private UpstreamInstance nth(int n, boolean panic) {
+        if (panic) {
+            return instances.get(n);
+        }
+        for (UpstreamInstance instance : instances) {
+            if (instance.healthy() && n-- == 0) {
+                return instance;
+            }
+        }
+        // 훑는 사이 헬스가 바뀐 경우
+        return instances.get(0);
+    }
+}
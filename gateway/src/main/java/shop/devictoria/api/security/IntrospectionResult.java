@@ -0,0 +1,17 @@
+package shop.devictoria.api.security;
+
+/**
+ * authservice 토큰 인트로스펙션 응답 (POST /internal/tokens/introspect)
+ *
+ * @param sub 사용자 식별자 "{provider}:{providerUserId}" (JWT subject 와 같은 형식)
+ * @param exp 토큰 만료 시각 (epoch 초, 모르면 null)
+ */
+public record IntrospectionResult(
+    boolean active,
+    String sub,
+    String provider,
+    Long exp
+) {
+
+    static final IntrospectionResult INACTIVE = new IntrospectionResult(false, null, null, null);
+}
@@ -0,0 +1,127 @@
+package shop.devictoria.api.security;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * authservice JWKS 엔드포인트에서 받아온 검증 키 링
+ *
+ * 요청 경로에서는 AtomicReference 읽기만 하고, 갱신은 백그라운드에서 주기적으로 통째로 교체한다.
+ * 모르는 kid 가 들어오면(키 교체 직후) 최소 간격을 두고 한 번 더 당겨온다.
+ */
+@Component
+public class JwksKeyRing implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyRing.class);
+
+    private final WebClient webClient;
+
+    private final String jwksUri;
+
+    private final Duration refreshInterval;
+
+    private final Duration minRefreshInterval;
+
+    private final AtomicReference<Map<String, PublicKey>> keys = new AtomicReference<>(Map.of());
+
+    private final AtomicLong lastRefreshNanos = new AtomicLong(System.nanoTime());
+
+    private Disposable refreshTask;
+
+    public JwksKeyRing(WebClient.Builder webClientBuilder,
+                       @Value("${jwt.jwks-uri}") String jwksUri,
+                       @Value("${jwt.jwks-refresh-interval:5m}") Duration refreshInterval,
+                       @Value("${jwt.jwks-min-refresh-interval:10s}") Duration minRefreshInterval) {
+        this.webClient = webClientBuilder.build();
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * kid 에 해당하는 공개키 조회. 없으면 (최소 간격이 지났을 때만) JWKS 를 다시 받아 본다.
+     */
+    public Mono<PublicKey> find(String keyId) {
+        PublicKey key = keys.get().get(keyId);
+        if (key != null) {
+            return Mono.just(key);
+        }
+
+        long last = lastRefreshNanos.get();
+        if (System.nanoTime() - last < minRefreshInterval.toNanos()
+                || !lastRefreshNanos.compareAndSet(last, System.nanoTime())) {
+            return Mono.empty();
+        }
+        return refresh().then(Mono.fromSupplier(() -> keys.get().get(keyId)));
+    }
+
+    private Mono<Void> refresh() {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .doOnNext(jwks -> {
+                    keys.set(parse(jwks));
+                    lastRefreshNanos.set(System.nanoTime());
+                })
+                .doOnError(e -> log.warn("JWKS 갱신 실패 ({}): {}", jwksUri, e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private static Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            try {
+                Base64.Decoder decoder = Base64.getUrlDecoder();
+                BigInteger modulus = new BigInteger(1, decoder.decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, decoder.decode(jwk.path("e").asText()));
+                PublicKey key = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+                parsed.put(jwk.path("kid").asText(), key);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("JWK 파싱 실패 (kid={}): {}", jwk.path("kid").asText(), e.getMessage());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -0,0 +1,162 @@
+package shop.devictoria.api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 보호 경로(/api/users/** 등)에 대한 액세스 토큰 검증 필터
+ *
+ * 검증에 성공하면 토큰의 subject 를 {@value #USER_ID_HEADER} 헤더로 다운스트림에 전달한다.
+ * 클라이언트가 직접 보낸 같은 이름의 헤더는 경로와 관계없이 제거한다.
+ *
+ * JWT 형식이 아닌 토큰은 제공자 액세스 토큰으로 보고, 클라이언트가 {@value #PROVIDER_HEADER} 헤더로 알려 준
+ * 제공자 기준으로 {@link OpaqueTokenIntrospector} 에 확인한다. authservice 가 판단하지 못하면 503.
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    public static final String PROVIDER_HEADER = "X-Auth-Provider";
+
+    public static final int ORDER = -100;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final byte[] UNAUTHORIZED_BODY =
+            "{\"success\":false,\"message\":\"인증이 필요합니다\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] UNAVAILABLE_BODY =
+            "{\"success\":false,\"message\":\"인증 서버를 일시적으로 사용할 수 없습니다\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final JwtVerifier verifier;
+
+    private final OpaqueTokenIntrospector introspector;
+
+    private final List<PathPattern> protectedPaths;
+
+    public JwtAuthenticationFilter(JwtVerifier verifier,
+                                   OpaqueTokenIntrospector introspector,
+                                   Environment environment) {
+        this.verifier = verifier;
+        this.introspector = introspector;
+        this.protectedPaths = Binder.get(environment).bindOrCreate("jwt", JwtProperties.class).protectedPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (!isProtected(request)) {
+            if (request.getHeaders().containsKey(USER_ID_HEADER)) {
+                return chain.filter(exchange.mutate()
+                        .request(builder -> builder.headers(headers -> headers.remove(USER_ID_HEADER)))
+                        .build());
+            }
+            return chain.filter(exchange);
+        }
+
+        String token = bearerToken(request);
+        if (token == null) {
+            return unauthorized(exchange);
+        }
+
+        if (introspector.enabled() && !isJwt(token)) {
+            return introspect(exchange, chain, request, token);
+        }
+
+        return verifier.verify(token)
+                .flatMap(verified -> forward(exchange, chain, verified.subject()))
+                .onErrorResume(JwtValidationException.class, e -> unauthorized(exchange));
+    }
+
+    private Mono<Void> introspect(ServerWebExchange exchange, GatewayFilterChain chain,
+                                  ServerHttpRequest request, String token) {
+        String provider = request.getHeaders().getFirst(PROVIDER_HEADER);
+        if (provider == null || provider.isEmpty()) {
+            return unauthorized(exchange);
+        }
+
+        // 다운스트림 오류까지 503 으로 바꾸지 않도록 인트로스펙션 실패만 먼저 처리한다
+        return introspector.introspect(provider, token)
+                .onErrorResume(e -> unavailable(exchange).then(Mono.empty()))
+                .flatMap(result -> result.active() && result.sub() != null
+                        ? forward(exchange, chain, result.sub())
+                        : unauthorized(exchange));
+    }
+
+    private static Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String subject) {
+        return chain.filter(exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.set(USER_ID_HEADER, subject)))
+                .build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean isProtected(ServerHttpRequest request) {
+        for (PathPattern pattern : protectedPaths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * header.payload.signature 세 부분으로 나뉘는지만 본다 (제공자 토큰에는 점이 두 개 들어가지 않는다)
+     */
+    private static boolean isJwt(String token) {
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        return second > 0 && token.indexOf('.', second + 1) < 0;
+    }
+
+    static String bearerToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static Mono<Void> unauthorized(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(UNAUTHORIZED_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+
+    private static Mono<Void> unavailable(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(UNAVAILABLE_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+}
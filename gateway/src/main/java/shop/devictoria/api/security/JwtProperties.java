@@ -0,0 +1,17 @@
+package shop.devictoria.api.security;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액세스 토큰 검증 대상 설정 ({@code jwt.*})
+ *
+ * YAML 목록은 @Value 자리표시자로 풀리지 않으므로 목록 값은 이 레코드로 바인딩한다.
+ *
+ * @param protectedPaths 토큰이 있어야 하는 경로 패턴 (PathPattern 문법)
+ */
+public record JwtProperties(
+    @DefaultValue("/api/users/**") List<String> protectedPaths
+) {
+}
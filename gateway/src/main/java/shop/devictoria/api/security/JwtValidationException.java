@@ -0,0 +1,11 @@
+package shop.devictoria.api.security;
+
+/**
+ * 액세스 토큰 검증 실패
+ */
+public class JwtValidationException extends RuntimeException {
+
+    public JwtValidationException(String message) {
+        super(message);
+    }
+}
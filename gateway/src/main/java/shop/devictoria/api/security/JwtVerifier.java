@@ -0,0 +1,131 @@
+package shop.devictoria.api.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * RS256 액세스 토큰 로컬 검증
+ *
+ * 한 번 검증한 토큰은 만료 시각까지 캐시에 두므로, 같은 세션의 후속 요청은
+ * 서명 검증 없이 해시 조회 한 번으로 끝난다. 캐시 키는 토큰 전체이다
+ * (서명만 키로 쓰면 다른 페이로드에 서명을 붙여 캐시를 속일 수 있다).
+ */
+@Component
+public class JwtVerifier {
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final JwksKeyRing keyRing;
+
+    private final ObjectMapper objectMapper;
+
+    private final String issuer;
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtVerifier(JwksKeyRing keyRing,
+                       ObjectMapper objectMapper,
+                       @Value("${jwt.issuer}") String issuer,
+                       @Value("${jwt.verified-cache-size:100000}") long verifiedCacheSize) {
+        this.keyRing = keyRing;
+        this.objectMapper = objectMapper;
+        this.issuer = issuer;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.creating((String token, VerifiedToken verified) ->
+                        Duration.ofSeconds(Math.max(0, verified.expiresAt() - nowEpochSeconds()))))
+                .build();
+    }
+
+    public Mono<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached.isExpired(nowEpochSeconds())
+                    ? Mono.error(new JwtValidationException("만료된 토큰"))
+                    : Mono.just(cached);
+        }
+
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return Mono.error(new JwtValidationException("JWT 형식이 아닙니다"));
+        }
+
+        JsonNode header;
+        try {
+            header = readSegment(token.substring(0, headerEnd));
+        } catch (JwtValidationException e) {
+            return Mono.error(e);
+        }
+        if (!"RS256".equals(header.path("alg").asText())) {
+            return Mono.error(new JwtValidationException("지원하지 않는 서명 알고리즘"));
+        }
+
+        return keyRing.find(header.path("kid").asText())
+                .switchIfEmpty(Mono.error(() -> new JwtValidationException("알 수 없는 서명 키")))
+                .map(key -> {
+                    VerifiedToken verified = verifySignedToken(token, headerEnd, payloadEnd, key);
+                    verifiedTokens.put(token, verified);
+                    return verified;
+                });
+    }
+
+    private VerifiedToken verifySignedToken(String token, int headerEnd, int payloadEnd, PublicKey key) {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(BASE64_URL.decode(token.substring(payloadEnd + 1)))) {
+                throw new JwtValidationException("서명 불일치");
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new JwtValidationException("서명 검증 실패: " + e.getMessage());
+        }
+
+        JsonNode claims = readSegment(token.substring(headerEnd + 1, payloadEnd));
+        long now = nowEpochSeconds();
+        if (!issuer.equals(claims.path("iss").asText())) {
+            throw new JwtValidationException("발급자 불일치");
+        }
+        if (claims.path("exp").asLong(0) <= now) {
+            throw new JwtValidationException("만료된 토큰");
+        }
+        if (claims.path("nbf").asLong(0) > now) {
+            throw new JwtValidationException("아직 유효하지 않은 토큰");
+        }
+
+        return new VerifiedToken(
+                claims.path("sub").asText(),
+                claims.path("provider").asText(null),
+                claims.path("exp").asLong()
+        );
+    }
+
+    private JsonNode readSegment(String segment) {
+        try {
+            return objectMapper.readTree(BASE64_URL.decode(segment));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new JwtValidationException("JWT 디코딩 실패");
+        }
+    }
+
+    private static long nowEpochSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
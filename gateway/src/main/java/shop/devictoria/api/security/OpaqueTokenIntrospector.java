@@ -0,0 +1,168 @@
+package shop.devictoria.api.security;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.routing.DynamicRouteDefinitionRepository;
+import shop.devictoria.api.routing.UpstreamPool;
+
+/**
+ * 제공자 액세스 토큰(불투명 토큰)을 authservice 인트로스펙션 API 로 확인하고 결과를 캐시한다
+ *
+ * 키는 "제공자:SHA-256(토큰)" 이라 원본 토큰은 메모리에 남지 않는다.
+ * 유효한 토큰은 positive-ttl 과 토큰 만료 시각(exp) 중 이른 쪽까지, 거절된 토큰은 negative-ttl 동안 캐시한다.
+ * authservice 가 판단하지 못한 경우(503, 연결 실패)는 캐시하지 않는다.
+ * 같은 키에 대한 동시 미스는 진행 중인 조회 하나를 함께 기다린다(single-flight).
+ * uri 가 lb://{업스트림} 이면 라우트와 같은 업스트림 풀에서 인스턴스를 고른다.
+ */
+@Component
+public class OpaqueTokenIntrospector {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final String LB_SCHEME = "lb";
+
+    private final WebClient webClient;
+
+    private final DynamicRouteDefinitionRepository upstreams;
+
+    private final boolean enabled;
+
+    private final URI introspectionUri;
+
+    private final Duration timeout;
+
+    private final AsyncCache<String, IntrospectionResult> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter coalesced;
+
+    /**
+     * @param upstreams lb:// uri 의 업스트림 풀 (uri 가 http(s) 면 null 이어도 된다)
+     */
+    public OpaqueTokenIntrospector(WebClient.Builder webClientBuilder,
+                                   DynamicRouteDefinitionRepository upstreams,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${introspection.enabled:true}") boolean enabled,
+                                   @Value("${introspection.uri}") String introspectionUri,
+                                   @Value("${introspection.timeout:2s}") Duration timeout,
+                                   @Value("${introspection.cache.max-size:100000}") long maxSize,
+                                   @Value("${introspection.cache.positive-ttl:5m}") Duration positiveTtl,
+                                   @Value("${introspection.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.webClient = webClientBuilder.build();
+        this.upstreams = upstreams;
+        this.enabled = enabled;
+        this.introspectionUri = URI.create(introspectionUri);
+        this.timeout = timeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, IntrospectionResult result) ->
+                        result.active() ? ttl(positiveTtl, result.exp()) : negativeTtl))
+                .buildAsync();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 조회, 없으면 authservice 에 한 번만 묻는다. 판단할 수 없으면 에러
+     */
+    public Mono<IntrospectionResult> introspect(String provider, String token) {
+        String key = provider + ":" + hash(token);
+
+        CompletableFuture<IntrospectionResult> created = new CompletableFuture<>();
+        CompletableFuture<IntrospectionResult> existing = cache.asMap().putIfAbsent(key, created);
+
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return Mono.fromFuture(existing, true).flatMap(this::unlessExpired);
+        }
+
+        misses.increment();
+        // 요청을 만들다 던진 예외도 created 를 실패시켜야 같은 키의 대기자가 영원히 기다리지 않는다
+        Mono.defer(() -> send(uri -> webClient.post()
+                        .uri(uri)
+                        .bodyValue(Map.of("token", token, "provider", provider))
+                        .retrieve()
+                        .bodyToMono(IntrospectionResult.class)))
+                .timeout(timeout)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("인트로스펙션 응답이 비어 있습니다")))
+                .subscribe(created::complete, created::completeExceptionally);
+
+        return Mono.fromFuture(created, true);
+    }
+
+    private Mono<IntrospectionResult> send(Function<URI, Mono<IntrospectionResult>> request) {
+        if (!LB_SCHEME.equals(introspectionUri.getScheme())) {
+            return request.apply(introspectionUri);
+        }
+        UpstreamPool pool = upstreams.upstream(introspectionUri.getHost());
+        if (pool == null) {
+            return Mono.error(new IllegalStateException("업스트림이 없습니다: " + introspectionUri.getHost()));
+        }
+        return pool.call(introspectionUri, request);
+    }
+
+    /**
+     * 캐시 항목은 exp 에 맞춰 만료되지만 초 단위 경계에서 만료된 토큰을 한 번 더 통과시키지 않도록 확인한다
+     */
+    private Mono<IntrospectionResult> unlessExpired(IntrospectionResult result) {
+        if (result.active() && result.exp() != null && result.exp() <= nowEpochSeconds()) {
+            return Mono.just(IntrospectionResult.INACTIVE);
+        }
+        return Mono.just(result);
+    }
+
+    private static Duration ttl(Duration positiveTtl, Long exp) {
+        if (exp == null) {
+            return positiveTtl;
+        }
+        Duration untilExpiry = Duration.ofSeconds(Math.max(0, exp - nowEpochSeconds()));
+        return untilExpiry.compareTo(positiveTtl) < 0 ? untilExpiry : positiveTtl;
+    }
+
+    private static long nowEpochSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.introspection.cache")
+                .description("불투명 토큰 인트로스펙션 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package shop.devictoria.api.security;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임
+ */
+public record VerifiedToken(
+    String subject,
+    String provider,
+    long expiresAt
+) {
+
+    public boolean isExpired(long nowEpochSeconds) {
+        return expiresAt <= nowEpochSeconds;
+    }
+}
@@ -0,0 +1,27 @@
+-- 토큰 버킷 원자적 리필 + 차감
+-- KEYS[1]: 버킷 키, ARGV: 초당 리필량, 버킷 용량, 요청 토큰 수
+local key = KEYS[1]
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1]) or capacity
+local last = tonumber(state[2]) or now
+
+local elapsed = math.max(0, now - last)
+tokens = math.min(capacity, tokens + (elapsed * rate / 1000))
+
+local allowed = 0
+if tokens >= requested then
+  tokens = tokens - requested
+  allowed = 1
+end
+
+redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+redis.call('PEXPIRE', key, math.ceil(capacity * 1000 / rate) * 2)
+
+return { allowed, math.floor(tokens) }
@@ -0,0 +1,151 @@
+package shop.devictoria.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import shop.devictoria.api.ratelimit.InMemoryTokenBucketBackend.Bucket;
+import shop.devictoria.api.ratelimit.TokenBucketBackend.Decision;
+
+class InMemoryTokenBucketBackendTest {
+
+    @Test
+    void allowsBurstThenDenies() {
+        Bucket bucket = new Bucket(10, 20, 0);
+
+        for (int i = 19; i >= 0; i--) {
+            assertThat(bucket.tryConsume(1, 0)).isEqualTo(new Decision(true, i));
+        }
+        assertThat(bucket.tryConsume(1, 0)).isEqualTo(new Decision(false, 0));
+    }
+
+    @Test
+    void deniedRequestDoesNotConsume() {
+        Bucket bucket = new Bucket(10, 5, 0);
+
+        assertThat(bucket.tryConsume(6, 0)).isEqualTo(new Decision(false, 5));
+        assertThat(bucket.tryConsume(5, 0)).isEqualTo(new Decision(true, 0));
+    }
+
+    @Test
+    void refillsByElapsedTimeUpToCapacity() {
+        Bucket bucket = new Bucket(10, 20, 0);
+        bucket.tryConsume(20, 0);
+
+        assertThat(bucket.tryConsume(1, 100)).isEqualTo(new Decision(true, 0));
+        assertThat(bucket.tryConsume(1, 100)).isEqualTo(new Decision(false, 0));
+        assertThat(bucket.tryConsume(0, 60_000)).isEqualTo(new Decision(true, 20));
+    }
+
+    @Test
+    void carriesSubTokenRemainderToNextRefill() {
+        // 초당 3개 = 333.3ms 에 1개. 333ms 에는 1개가 안 되지만 그 리필분을 잃지 않아야 한다
+        Bucket bucket = new Bucket(3, 1, 0);
+        bucket.tryConsume(1, 0);
+
+        assertThat(bucket.tryConsume(1, 333).allowed()).isFalse();
+        assertThat(bucket.tryConsume(1, 334).allowed()).isTrue();
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRefill() {
+        Bucket bucket = new Bucket(10, 2, 1_000);
+        bucket.tryConsume(2, 1_000);
+
+        assertThat(bucket.tryConsume(1, 500).allowed()).isFalse();
+    }
+
+    @Test
+    void packsLargeTimestampsWithoutTouchingTokenBits() {
+        // 40비트 시각 필드의 상한 근처 (약 17년치 ms)
+        long now = (1L << 39) + 12_345;
+        int capacity = InMemoryTokenBucketBackend.MAX_BURST_CAPACITY;
+        Bucket bucket = new Bucket(1, capacity, now);
+
+        assertThat(bucket.tryConsume(capacity - 1, now)).isEqualTo(new Decision(true, 1));
+        assertThat(bucket.tryConsume(1, now + 1_000)).isEqualTo(new Decision(true, 1));
+        assertThat(bucket.isFull(now + 1_000)).isFalse();
+    }
+
+    @Test
+    void reportsFullAfterFillTime() {
+        Bucket bucket = new Bucket(10, 20, 0);
+        assertThat(bucket.isFull(0)).isTrue();
+
+        bucket.tryConsume(20, 0);
+        assertThat(bucket.isFull(1_999)).isFalse();
+        assertThat(bucket.isFull(2_000)).isTrue();
+    }
+
+    @Test
+    void concurrentConsumersNeverOverdraw() throws Exception {
+        int capacity = 1_000;
+        Bucket bucket = new Bucket(1, capacity, 0);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < capacity; i++) {
+                        if (bucket.tryConsume(1, 0).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsBurstCapacityBeyondTokenBits() {
+        InMemoryTokenBucketBackend backend = new InMemoryTokenBucketBackend(Duration.ofHours(1));
+        try {
+            assertThatThrownBy(() -> backend.tryConsume("client", 1,
+                    InMemoryTokenBucketBackend.MAX_BURST_CAPACITY + 1, 1).block())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(backend.tryConsume("client", 1, InMemoryTokenBucketBackend.MAX_BURST_CAPACITY, 1).block())
+                    .isEqualTo(new Decision(true, InMemoryTokenBucketBackend.MAX_BURST_CAPACITY - 1));
+        } finally {
+            backend.destroy();
+        }
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        InMemoryTokenBucketBackend backend = new InMemoryTokenBucketBackend(Duration.ofHours(1));
+        try {
+            backend.tryConsume("idle", 10, 20, 0).block();
+            backend.tryConsume("busy", 1, 20, 20).block();
+
+            backend.evictIdle();
+
+            assertThat(backend.size()).isEqualTo(1);
+        } finally {
+            backend.destroy();
+        }
+    }
+}
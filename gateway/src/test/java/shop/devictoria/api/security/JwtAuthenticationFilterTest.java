@@ -0,0 +1,167 @@
+package shop.devictoria.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT = "header.payload.signature";
+
+    private static final String OPAQUE = "provider-access-token";
+
+    private final JwtVerifier verifier = mock(JwtVerifier.class);
+
+    private final OpaqueTokenIntrospector introspector = mock(OpaqueTokenIntrospector.class);
+
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 실제 application.yaml 의 jwt.protected-paths(YAML 목록)로 바인딩되는지까지 확인한다
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"))
+                .forEach(environment.getPropertySources()::addLast);
+        when(introspector.enabled()).thenReturn(true);
+        filter = new JwtAuthenticationFilter(verifier, introspector, environment);
+    }
+
+    @Test
+    void rejectsProtectedPathWithoutToken() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/users/me"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+        assertThat(forwarded).hasValue(null);
+    }
+
+    @Test
+    void stripsClientUserIdOnPublicPath() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/auth/kakao/auth-url")
+                .header(JwtAuthenticationFilter.USER_ID_HEADER, "kakao:spoofed"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(forwarded.get().getRequest().getHeaders().containsKey(JwtAuthenticationFilter.USER_ID_HEADER))
+                .isFalse();
+        verifyNoInteractions(verifier);
+    }
+
+    @Test
+    void forwardsVerifiedSubjectInPlaceOfClientHeader() {
+        when(verifier.verify(JWT)).thenReturn(Mono.just(new VerifiedToken("kakao:1", "kakao", Long.MAX_VALUE)));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + JWT)
+                .header(JwtAuthenticationFilter.USER_ID_HEADER, "kakao:spoofed"));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(forwarded.get().getRequest().getHeaders().get(JwtAuthenticationFilter.USER_ID_HEADER))
+                .containsExactly("kakao:1");
+    }
+
+    @Test
+    void rejectsInvalidJwt() {
+        when(verifier.verify(JWT)).thenReturn(Mono.error(new JwtValidationException("서명 불일치")));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + JWT));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(forwarded).hasValue(null);
+    }
+
+    @Test
+    void rejectsOpaqueTokenWithoutProvider() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + OPAQUE));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verifyNoInteractions(verifier);
+    }
+
+    @Test
+    void forwardsIntrospectedSubject() {
+        when(introspector.introspect("kakao", OPAQUE))
+                .thenReturn(Mono.just(new IntrospectionResult(true, "kakao:1", "kakao", null)));
+
+        filter.filter(opaqueExchange(), chain).block();
+
+        assertThat(forwarded.get().getRequest().getHeaders().getFirst(JwtAuthenticationFilter.USER_ID_HEADER))
+                .isEqualTo("kakao:1");
+    }
+
+    @Test
+    void rejectsInactiveOpaqueToken() {
+        when(introspector.introspect("kakao", OPAQUE)).thenReturn(Mono.just(IntrospectionResult.INACTIVE));
+        MockServerWebExchange exchange = opaqueExchange();
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void answers503WhenIntrospectionIsUndecided() {
+        when(introspector.introspect(anyString(), anyString()))
+                .thenReturn(Mono.error(new IllegalStateException("authservice down")));
+        MockServerWebExchange exchange = opaqueExchange();
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(forwarded).hasValue(null);
+    }
+
+    @Test
+    void doesNotTurnDownstreamErrorsInto503() {
+        when(introspector.introspect("kakao", OPAQUE))
+                .thenReturn(Mono.just(new IntrospectionResult(true, "kakao:1", "kakao", null)));
+        GatewayFilterChain failing = exchange -> Mono.error(new IllegalStateException("downstream"));
+
+        assertThatThrownBy(() -> filter.filter(opaqueExchange(), failing).block())
+                .hasMessage("downstream");
+    }
+
+    private static MockServerWebExchange opaqueExchange() {
+        return exchange(MockServerHttpRequest.get("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + OPAQUE)
+                .header(JwtAuthenticationFilter.PROVIDER_HEADER, "kakao"));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
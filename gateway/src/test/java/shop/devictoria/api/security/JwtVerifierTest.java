@@ -0,0 +1,148 @@
+package shop.devictoria.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+class JwtVerifierTest {
+
+    private static final String ISSUER = "devictoria-auth";
+
+    private static final String KID = "key-1";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static KeyPair signingKey;
+
+    private static KeyPair otherKey;
+
+    private final JwksKeyRing keyRing = mock(JwksKeyRing.class);
+
+    private JwtVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKey = generator.generateKeyPair();
+        otherKey = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(keyRing.find(anyString())).thenReturn(Mono.empty());
+        when(keyRing.find(KID)).thenReturn(Mono.just(signingKey.getPublic()));
+        verifier = new JwtVerifier(keyRing, new ObjectMapper(), ISSUER, 100);
+    }
+
+    @Test
+    void acceptsValidToken() throws GeneralSecurityException {
+        long exp = now() + 600;
+        String token = sign(signingKey.getPrivate(), header("RS256", KID), claims(ISSUER, exp));
+
+        VerifiedToken verified = verifier.verify(token).block();
+
+        assertThat(verified).isEqualTo(new VerifiedToken("kakao:1", "kakao", exp));
+    }
+
+    @Test
+    void servesRepeatedTokenFromCache() throws GeneralSecurityException {
+        String token = sign(signingKey.getPrivate(), header("RS256", KID), claims(ISSUER, now() + 600));
+
+        verifier.verify(token).block();
+        verifier.verify(token).block();
+
+        verify(keyRing, times(1)).find(KID);
+    }
+
+    @Test
+    void rejectsForeignSignature() throws GeneralSecurityException {
+        String token = sign(otherKey.getPrivate(), header("RS256", KID), claims(ISSUER, now() + 600));
+
+        assertRejected(token, "서명 불일치");
+    }
+
+    @Test
+    void rejectsWrongIssuer() throws GeneralSecurityException {
+        String token = sign(signingKey.getPrivate(), header("RS256", KID), claims("someone-else", now() + 600));
+
+        assertRejected(token, "발급자 불일치");
+    }
+
+    @Test
+    void rejectsExpiredToken() throws GeneralSecurityException {
+        String token = sign(signingKey.getPrivate(), header("RS256", KID), claims(ISSUER, now() - 1));
+
+        assertRejected(token, "만료된 토큰");
+    }
+
+    @Test
+    void rejectsOtherAlgorithms() throws GeneralSecurityException {
+        String token = sign(signingKey.getPrivate(), header("none", KID), claims(ISSUER, now() + 600));
+
+        assertRejected(token, "지원하지 않는 서명 알고리즘");
+    }
+
+    @Test
+    void rejectsUnknownKeyId() throws GeneralSecurityException {
+        String token = sign(signingKey.getPrivate(), header("RS256", "rotated-away"), claims(ISSUER, now() + 600));
+
+        assertRejected(token, "알 수 없는 서명 키");
+    }
+
+    @Test
+    void rejectsNonJwt() {
+        assertRejected("provider-access-token", "JWT 형식이 아닙니다");
+        assertRejected("a.b.c.d", "JWT 형식이 아닙니다");
+    }
+
+    private void assertRejected(String token, String message) {
+        assertThatThrownBy(() -> verifier.verify(token).block())
+                .isInstanceOf(JwtValidationException.class)
+                .hasMessageContaining(message);
+    }
+
+    private static String header(String alg, String kid) {
+        return "{\"alg\":\"" + alg + "\",\"kid\":\"" + kid + "\",\"typ\":\"JWT\"}";
+    }
+
+    private static String claims(String issuer, long exp) {
+        return "{\"iss\":\"" + issuer + "\",\"sub\":\"kakao:1\",\"provider\":\"kakao\",\"exp\":" + exp + "}";
+    }
+
+    private static String sign(PrivateKey key, String header, String claims) throws GeneralSecurityException {
+        String signingInput = encode(header) + "." + encode(claims);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(key);
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+    }
+
+    private static String encode(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,162 @@
+package shop.devictoria.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import shop.devictoria.api.routing.DynamicRouteDefinitionRepository;
+import shop.devictoria.api.routing.UpstreamPool;
+
+class OpaqueTokenIntrospectorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static final String ACTIVE = "{\"active\":true,\"sub\":\"kakao:1\",\"provider\":\"kakao\"}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<URI> requests = new CopyOnWriteArrayList<>();
+
+    @Test
+    void concurrentMissesShareOneRequest() {
+        Sinks.One<ClientResponse> response = Sinks.one();
+        OpaqueTokenIntrospector introspector = introspector("http://authservice/introspect", response.asMono());
+
+        Mono<IntrospectionResult> first = introspector.introspect("kakao", "token");
+        Mono<IntrospectionResult> second = introspector.introspect("kakao", "token");
+        assertThat(requests).hasSize(1);
+
+        response.tryEmitValue(json(HttpStatus.OK, ACTIVE));
+
+        assertThat(first.block(TIMEOUT)).isEqualTo(new IntrospectionResult(true, "kakao:1", "kakao", null));
+        assertThat(second.block(TIMEOUT)).isEqualTo(new IntrospectionResult(true, "kakao:1", "kakao", null));
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void cachesActiveAndInactiveResults() {
+        OpaqueTokenIntrospector introspector = introspector("http://authservice/introspect",
+                Mono.fromSupplier(() -> json(HttpStatus.OK, requests.size() == 1 ? ACTIVE : "{\"active\":false}")));
+
+        assertThat(introspector.introspect("kakao", "a").block(TIMEOUT).active()).isTrue();
+        assertThat(introspector.introspect("kakao", "a").block(TIMEOUT).active()).isTrue();
+        assertThat(introspector.introspect("kakao", "b").block(TIMEOUT).active()).isFalse();
+        assertThat(introspector.introspect("kakao", "b").block(TIMEOUT).active()).isFalse();
+
+        assertThat(requests).hasSize(2);
+        assertThat(count("hit")).isEqualTo(2);
+    }
+
+    @Test
+    void keysByProvider() {
+        OpaqueTokenIntrospector introspector = introspector("http://authservice/introspect",
+                Mono.fromSupplier(() -> json(HttpStatus.OK, ACTIVE)));
+
+        introspector.introspect("kakao", "token").block(TIMEOUT);
+        introspector.introspect("naver", "token").block(TIMEOUT);
+
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void doesNotCacheUndecidedResults() {
+        OpaqueTokenIntrospector introspector = introspector("http://authservice/introspect",
+                Mono.fromSupplier(() -> requests.size() == 1
+                        ? json(HttpStatus.SERVICE_UNAVAILABLE, "{}")
+                        : json(HttpStatus.OK, ACTIVE)));
+
+        assertThatThrownBy(() -> introspector.introspect("kakao", "token").block(TIMEOUT))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(introspector.introspect("kakao", "token").block(TIMEOUT).active()).isTrue();
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void doesNotServeActiveResultPastExpiry() {
+        long expired = System.currentTimeMillis() / 1000 - 1;
+        OpaqueTokenIntrospector introspector = introspector("http://authservice/introspect",
+                Mono.fromSupplier(() -> json(HttpStatus.OK,
+                        "{\"active\":true,\"sub\":\"kakao:1\",\"provider\":\"kakao\",\"exp\":" + expired + "}")));
+
+        introspector.introspect("kakao", "token").block(TIMEOUT);
+        introspector.introspect("kakao", "token").block(TIMEOUT);
+
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void resolvesLbUriThroughUpstreamPool() {
+        UpstreamPool pool = mock(UpstreamPool.class);
+        when(pool.call(any(), any())).thenAnswer(invocation -> {
+            Function<URI, Mono<IntrospectionResult>> request = invocation.getArgument(1);
+            return request.apply(URI.create("http://10.0.0.1:8081/internal/tokens/introspect"));
+        });
+        DynamicRouteDefinitionRepository upstreams = mock(DynamicRouteDefinitionRepository.class);
+        when(upstreams.upstream(eq("authservice"))).thenReturn(pool);
+
+        OpaqueTokenIntrospector introspector = introspector(upstreams, "lb://authservice/internal/tokens/introspect",
+                Mono.fromSupplier(() -> json(HttpStatus.OK, ACTIVE)));
+
+        assertThat(introspector.introspect("kakao", "token").block(TIMEOUT).active()).isTrue();
+        assertThat(requests).containsExactly(URI.create("http://10.0.0.1:8081/internal/tokens/introspect"));
+    }
+
+    @Test
+    void failsWithoutUpstreamAndRetriesNextTime() {
+        DynamicRouteDefinitionRepository upstreams = mock(DynamicRouteDefinitionRepository.class);
+        OpaqueTokenIntrospector introspector = introspector(upstreams, "lb://authservice/internal/tokens/introspect",
+                Mono.fromSupplier(() -> json(HttpStatus.OK, ACTIVE)));
+
+        assertThatThrownBy(() -> introspector.introspect("kakao", "token").block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> introspector.introspect("kakao", "token").block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    private OpaqueTokenIntrospector introspector(String uri, Mono<ClientResponse> response) {
+        return introspector(null, uri, response);
+    }
+
+    private OpaqueTokenIntrospector introspector(DynamicRouteDefinitionRepository upstreams, String uri,
+                                                 Mono<ClientResponse> response) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request.url());
+            return response;
+        });
+        return new OpaqueTokenIntrospector(builder, upstreams, meterRegistry, true, uri, TIMEOUT,
+                1_000, Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("gateway.introspection.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,147 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 실행 결과 요약과 기준선 비교
+ *
+ * 지연(p99, p999)이 늘거나 처리량이 threshold% 넘게 줄면, 또는 오류율이 1%p 넘게 늘면 회귀로 본다.
+ *
+ * @param upstreamProtocol    게이트웨이 → 서비스 프로토콜 (h2c | http11)
+ * @param upstreamConnections 측정 구간의 서비스 측 연결 수 (측정하지 못했으면 null)
+ */
+public record LoadReport(
+    int concurrency,
+    long durationSeconds,
+    String upstreamProtocol,
+    Map<String, OperationResult> operations,
+    Map<String, Long> failures,
+    UpstreamConnections upstreamConnections
+) {
+
+    private static final double ERROR_RATE_TOLERANCE = 0.01;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static LoadReport of(LoadStats stats, int concurrency, long durationSeconds,
+                                String upstreamProtocol, UpstreamConnections upstreamConnections) {
+        Map<String, OperationResult> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.histogram(operation);
+            long count = histogram.getTotalCount();
+            long errors = stats.errors(operation);
+            long attempts = count + errors;
+            if (attempts == 0) {
+                continue;
+            }
+            operations.put(operation.label(), new OperationResult(
+                    count,
+                    count / (double) durationSeconds,
+                    errors / (double) attempts,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+        return new LoadReport(concurrency, durationSeconds, upstreamProtocol, operations, stats.failures(),
+                upstreamConnections);
+    }
+
+    public static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    public void print() {
+        System.out.println();
+        System.out.printf("동시 사용자 %d, %d초, 업스트림 %s%n", concurrency, durationSeconds, upstreamProtocol);
+        System.out.printf("%-10s %10s %9s %8s %9s %9s %9s %9s%n",
+                "operation", "count", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        operations.forEach((name, result) -> System.out.printf("%-10s %10d %9.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+                name, result.count(), result.throughput(), result.errorRate() * 100,
+                result.p50Ms(), result.p99Ms(), result.p999Ms(), result.maxMs()));
+        if (!failures.isEmpty()) {
+            System.out.println("실패 (operation:status → 건수): " + failures);
+        }
+        if (upstreamConnections != null) {
+            System.out.printf("서비스 측 연결 수: 최대 %d, 평균 %.1f%n", upstreamConnections.peak(), upstreamConnections.average());
+        }
+    }
+
+    /**
+     * 기준선 대비 회귀 목록 (비어 있으면 통과)
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, double thresholdPercent) {
+        List<String> regressions = new ArrayList<>();
+        if (baseline.concurrency() != concurrency) {
+            System.out.printf("주의: 기준선 동시 사용자 수(%d)가 이번 실행(%d)과 다릅니다%n", baseline.concurrency(), concurrency);
+        }
+
+        baseline.operations().forEach((name, expected) -> {
+            OperationResult actual = operations.get(name);
+            if (actual == null) {
+                regressions.add(name + ": 이번 실행에서 성공한 요청이 없습니다");
+                return;
+            }
+            worse(regressions, name, "p99", expected.p99Ms(), actual.p99Ms(), thresholdPercent);
+            worse(regressions, name, "p999", expected.p999Ms(), actual.p999Ms(), thresholdPercent);
+            double drop = (expected.throughput() - actual.throughput()) / expected.throughput() * 100;
+            if (drop > thresholdPercent) {
+                regressions.add(String.format("%s: 처리량 %.1f%% 감소 (%.1f → %.1f req/s)",
+                        name, drop, expected.throughput(), actual.throughput()));
+            }
+            if (actual.errorRate() - expected.errorRate() > ERROR_RATE_TOLERANCE) {
+                regressions.add(String.format("%s: 오류율 증가 (%.2f%% → %.2f%%)",
+                        name, expected.errorRate() * 100, actual.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static void worse(List<String> regressions, String name, String metric,
+                              double expected, double actual, double thresholdPercent) {
+        if (expected <= 0) {
+            return;
+        }
+        double increase = (actual - expected) / expected * 100;
+        if (increase > thresholdPercent) {
+            regressions.add(String.format("%s: %s %.1f%% 증가 (%.1f → %.1f ms)", name, metric, increase, expected, actual));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    public record OperationResult(
+        long count,
+        double throughput,
+        double errorRate,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs
+    ) {
+    }
+
+    public record UpstreamConnections(
+        int peak,
+        double average
+    ) {
+    }
+}
@@ -0,0 +1,51 @@
+package shop.devictoria.api.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * 두 부하 테스트 결과(results.json)를 나란히 비교한다
+ *
+ * 게이트웨이 업스트림 HTTP/1.1 과 h2c 비교에 쓴다: ./gradlew :loadtest:compareUpstreamProtocols
+ * 사용: LoadReportComparison {기준 results.json} {비교 results.json}
+ */
+public class LoadReportComparison {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("사용: LoadReportComparison {기준 results.json} {비교 results.json}");
+        }
+        LoadReport before = LoadReport.read(Path.of(args[0]));
+        LoadReport after = LoadReport.read(Path.of(args[1]));
+
+        System.out.printf("%s → %s (동시 사용자 %d / %d)%n",
+                before.upstreamProtocol(), after.upstreamProtocol(), before.concurrency(), after.concurrency());
+        System.out.printf("%-10s %21s %21s %21s%n", "operation", "req/s", "p50(ms)", "p99(ms)");
+        before.operations().forEach((name, expected) -> {
+            LoadReport.OperationResult actual = after.operations().get(name);
+            if (actual == null) {
+                System.out.printf("%-10s (비교 결과 없음)%n", name);
+                return;
+            }
+            System.out.printf("%-10s %s %s %s%n", name,
+                    column(expected.throughput(), actual.throughput()),
+                    column(expected.p50Ms(), actual.p50Ms()),
+                    column(expected.p99Ms(), actual.p99Ms()));
+        });
+
+        LoadReport.UpstreamConnections beforeConnections = before.upstreamConnections();
+        LoadReport.UpstreamConnections afterConnections = after.upstreamConnections();
+        if (beforeConnections != null && afterConnections != null) {
+            System.out.printf("서비스 측 연결 수 최대 %d → %d, 평균 %.1f → %.1f%n",
+                    beforeConnections.peak(), afterConnections.peak(),
+                    beforeConnections.average(), afterConnections.average());
+        }
+    }
+
+    /**
+     * "기준 → 비교 (변화율)"
+     */
+    private static String column(double before, double after) {
+        double change = before > 0 ? (after - before) / before * 100 : 0;
+        return String.format("%7.1f→%7.1f %+5.0f%%", before, after, change);
+    }
+}
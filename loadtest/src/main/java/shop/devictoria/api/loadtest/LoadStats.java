@@ -0,0 +1,82 @@
+package shop.devictoria.api.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 한 번의 실행 구간 동안 요청 종류별 지연 히스토그램과 실패 수
+ *
+ * 가상 사용자마다 {@link Recorder} 를 하나씩 두고 끝난 뒤 합쳐 기록 경합이 없다.
+ * 지연은 μs 단위, 최대 60초까지 유효 숫자 3자리로 기록한다.
+ */
+public class LoadStats {
+
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    /**
+     * "operation:status" → 건수. 연결 실패·타임아웃은 status 0
+     */
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public LoadStats() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new Histogram(MAX_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public Recorder recorder() {
+        return new Recorder();
+    }
+
+    public synchronized void merge(Recorder recorder) {
+        recorder.histograms.forEach((operation, histogram) -> histograms.get(operation).add(histogram));
+    }
+
+    public Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public Map<String, Long> failures() {
+        Map<String, Long> sorted = new TreeMap<>();
+        failures.forEach((key, count) -> sorted.put(key, count.sum()));
+        return sorted;
+    }
+
+    /**
+     * 가상 사용자 한 명 전용 기록기 (스레드 안전하지 않음)
+     */
+    public final class Recorder {
+
+        private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+
+        private Recorder() {
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, new Histogram(MAX_MICROS, 3));
+            }
+        }
+
+        public void success(Operation operation, long elapsedNanos) {
+            histograms.get(operation).recordValue(Math.min(MAX_MICROS, Math.max(1, elapsedNanos / 1_000)));
+        }
+
+        public void failure(Operation operation, int status) {
+            errors.get(operation).increment();
+            failures.computeIfAbsent(operation.label() + ":" + status, key -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 게이트웨이 + authservice + userservice + mock OAuth 제공자 종단 간 부하 테스트
+ *
+ * 가상 사용자는 세션을 반복한다: auth-url → 콜백(로그인) → /api/users/me 여러 번 → 리프레시 토큰 회전.
+ * 세션마다 X-Forwarded-For 를 바꿔 서로 다른 클라이언트로 보이게 하므로(게이트웨이는 프록시 한 단 뒤로 띄운다),
+ * 게이트웨이 레이트 리밋은 실제처럼 클라이언트별로 적용된다. 워밍업 후 측정 구간의 결과를 기준선과 비교해 회귀면 종료 코드 1.
+ *
+ * 실행: ./gradlew :loadtest:loadTest [-Ploadtest.concurrency=500] [-Ploadtest.mock-latency=150ms]
+ *       [-Ploadtest.mock-error-rate=0.02] [-Ploadtest.upstream-protocol=http11] [-Ploadtest.update-baseline=true]
+ */
+public class LoadTest {
+
+    private static final Map<String, ProviderPaths> PROVIDERS = Map.of(
+            "kakao", new ProviderPaths("/kakao/oauth/authorize", "/kakao/oauth/token", "/kakao/v2/user/me"),
+            "naver", new ProviderPaths("/naver/oauth2.0/authorize", "/naver/oauth2.0/token", "/naver/v1/nid/me"),
+            "google", new ProviderPaths("/google/authorize", "/google/token", "/google/v1/userinfo"));
+
+    private static final List<String> JVM_ARGS = List.of("-Xms512m", "-Xmx512m", "-XX:+UseZGC");
+
+    /**
+     * authservice → userservice /internal/** 호출용 공유 토큰
+     */
+    private static final Map<String, String> INTERNAL_API_TOKEN = Map.of("INTERNAL_API_TOKEN", "loadtest");
+
+    private final LoadTestOptions options;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLong sessions = new AtomicLong();
+
+    private HttpClient client;
+
+    private String gatewayUrl;
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        List<String> regressions = new LoadTest(options).execute();
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println("성능 회귀 (허용 " + options.threshold() + "%):");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    public List<String> execute() throws Exception {
+        Path output = options.outputDirectory();
+        Path logs = Files.createDirectories(output.resolve("logs"));
+        Path data = output.resolve("data");
+        deleteRecursively(data);
+
+        int gatewayPort = options.basePort();
+        int authPort = options.basePort() + 1;
+        int userPort = options.basePort() + 2;
+        gatewayUrl = "http://127.0.0.1:" + gatewayPort;
+
+        try (MockOAuthServer mock = new MockOAuthServer(options.basePort() + 10, options.mockLatency(),
+                options.mockJitter(), options.mockErrorRate(), options.mockRateLimit());
+             ServiceProcess userservice = ServiceProcess.start("userservice", options.userserviceJar(), userPort,
+                     JVM_ARGS, INTERNAL_API_TOKEN, List.of(), logs);
+             ServiceProcess authservice = startAuthservice(mock, authPort, userPort, gatewayPort, data, logs)) {
+
+            userservice.awaitHealthy(Duration.ofMinutes(2));
+            authservice.awaitHealthy(Duration.ofMinutes(2));
+
+            // 게이트웨이는 기동 시 authservice JWKS 를 받아오므로 마지막에 띄운다
+            try (ServiceProcess gateway = ServiceProcess.start("gateway", options.gatewayJar(), gatewayPort, JVM_ARGS,
+                    Map.of("AUTHSERVICE_INSTANCES", "http://127.0.0.1:" + authPort,
+                            "USERSERVICE_INSTANCES", "http://127.0.0.1:" + userPort),
+                    List.of("--jwt.jwks-uri=http://127.0.0.1:" + authPort + "/api/auth/jwks",
+                            "--gateway.rate-limit.trusted-proxies=1",
+                            "--gateway.upstream.protocol=" + options.upstreamProtocol()), logs)) {
+                gateway.awaitHealthy(Duration.ofMinutes(2));
+
+                client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+
+                System.out.printf("워밍업 %ds ...%n", options.warmup().toSeconds());
+                run(options.warmup());
+                System.out.printf("측정 %ds (동시 사용자 %d) ...%n", options.duration().toSeconds(), options.concurrency());
+                LoadStats stats;
+                LoadReport.UpstreamConnections connections = null;
+                UpstreamConnectionSampler sampler = UpstreamConnectionSampler.start(Set.of(authPort, userPort));
+                try {
+                    stats = run(options.duration());
+                } finally {
+                    if (sampler != null) {
+                        sampler.close();
+                        connections = sampler.result();
+                    }
+                }
+
+                LoadReport report = LoadReport.of(stats, options.concurrency(), options.duration().toSeconds(),
+                        options.upstreamProtocol(), connections);
+                report.print();
+                System.out.println(mock.summary());
+                report.write(output.resolve("results.json"));
+                return compare(report);
+            }
+        }
+    }
+
+    private ServiceProcess startAuthservice(MockOAuthServer mock, int port, int userPort, int gatewayPort,
+                                            Path data, Path logs) throws IOException {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--userservice.base-url=http://127.0.0.1:" + userPort);
+        arguments.add("--jwt.refresh-token-store.directory=" + data.resolve("refresh-tokens").toAbsolutePath());
+        arguments.add("--login-events.outbox.directory=" + data.resolve("login-events").toAbsolutePath());
+        PROVIDERS.forEach((provider, paths) -> {
+            arguments.add("--" + provider + ".client-id=loadtest");
+            arguments.add("--" + provider + ".client-secret=loadtest");
+            arguments.add("--" + provider + ".auth-uri=" + mock.baseUrl() + paths.authorize());
+            arguments.add("--" + provider + ".token-uri=" + mock.baseUrl() + paths.token());
+            arguments.add("--" + provider + ".user-info-uri=" + mock.baseUrl() + paths.userInfo());
+            arguments.add("--" + provider + ".redirect-uri=http://127.0.0.1:" + gatewayPort + "/api/auth/" + provider + "/callback");
+        });
+        return ServiceProcess.start("authservice", options.authserviceJar(), port, JVM_ARGS, INTERNAL_API_TOKEN,
+                arguments, logs);
+    }
+
+    private LoadStats run(Duration duration) throws InterruptedException {
+        LoadStats stats = new LoadStats();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                users.submit(() -> {
+                    LoadStats.Recorder recorder = stats.recorder();
+                    while (System.nanoTime() < deadline) {
+                        session(recorder, deadline);
+                    }
+                    stats.merge(recorder);
+                });
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 로그인 세션 하나. 단계가 실패하면 세션을 접고 새 세션을 시작한다
+     */
+    private void session(LoadStats.Recorder recorder, long deadline) {
+        long session = sessions.incrementAndGet();
+        String provider = options.providers().get((int) (session % options.providers().size()));
+        String clientIp = "10." + ((session >> 16) & 0xff) + "." + ((session >> 8) & 0xff) + "." + (session & 0xff);
+        String code = "user" + ThreadLocalRandom.current().nextInt(options.userPool());
+
+        JsonNode authUrl = call(recorder, Operation.AUTH_URL, get("/api/auth/" + provider + "/auth-url", clientIp, null));
+        if (authUrl == null) {
+            return;
+        }
+
+        JsonNode login = call(recorder, Operation.CALLBACK, get("/api/auth/" + provider + "/callback?code=" + code
+                + "&state=" + URLEncoder.encode(authUrl.path("state").asText(), StandardCharsets.UTF_8), clientIp, null));
+        if (login == null || !login.path("success").asBoolean()) {
+            return;
+        }
+        String accessToken = login.path("accessToken").asText();
+        String refreshToken = login.path("refreshToken").asText();
+
+        for (int i = 0; i < options.profileReadsPerLogin() && System.nanoTime() < deadline; i++) {
+            call(recorder, Operation.PROFILE, get("/api/users/me", clientIp, accessToken));
+        }
+
+        for (int i = 0; i < options.refreshesPerLogin() && System.nanoTime() < deadline; i++) {
+            JsonNode refreshed = call(recorder, Operation.REFRESH, HttpRequest.newBuilder(URI.create(gatewayUrl + "/api/auth/token/refresh"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("X-Forwarded-For", clientIp)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                    .build());
+            if (refreshed == null) {
+                return;
+            }
+            refreshToken = refreshed.path("refreshToken").asText();
+        }
+    }
+
+    private HttpRequest get(String path, String clientIp, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(gatewayUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Forwarded-For", clientIp)
+                .GET();
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 2xx 면 지연을 기록하고 본문을 돌려준다. 그 외에는 status 별 실패로 센다
+     */
+    private JsonNode call(LoadStats.Recorder recorder, Operation operation, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            if (response.statusCode() / 100 != 2) {
+                recorder.failure(operation, response.statusCode());
+                return null;
+            }
+            recorder.success(operation, elapsed);
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            recorder.failure(operation, 0);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private List<String> compare(LoadReport report) throws IOException {
+        Path baseline = options.baselineFile();
+        if (options.updateBaseline()) {
+            report.write(baseline);
+            System.out.println("기준선 갱신: " + baseline);
+            return List.of();
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("기준선이 없어 비교를 건너뜁니다 (-Ploadtest.update-baseline=true 로 생성)");
+            return List.of();
+        }
+        List<String> regressions = report.regressionsAgainst(LoadReport.read(baseline), options.threshold());
+        if (regressions.isEmpty()) {
+            System.out.println("기준선 대비 회귀 없음 (허용 " + options.threshold() + "%)");
+        }
+        return regressions;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private record ProviderPaths(
+        String authorize,
+        String token,
+        String userInfo
+    ) {
+    }
+}
@@ -0,0 +1,92 @@
+package shop.devictoria.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정. 시스템 프로퍼티 loadtest.* 로 바꾼다 (Gradle 에서는 -Ploadtest.*)
+ *
+ * @param concurrency         동시 가상 사용자 수 (각자 세션을 끝없이 반복)
+ * @param profileReadsPerLogin 로그인 세션마다 /api/users/me 조회 횟수
+ * @param refreshesPerLogin   로그인 세션마다 리프레시 토큰 회전 횟수
+ * @param userPool            서로 다른 제공자 사용자 수 (같은 사용자의 재로그인이 섞인다)
+ * @param providers           세션마다 돌아가며 쓰는 제공자
+ * @param mockLatency         mock 제공자 응답 지연
+ * @param mockJitter          지연 ± 편차
+ * @param mockErrorRate       mock 제공자 500 응답 비율 (0~1)
+ * @param mockRateLimit       mock 제공자별 초당 요청 한도 (0 = 무제한)
+ * @param upstreamProtocol    게이트웨이 → 서비스 프로토콜 (h2c | http11, gateway.upstream.protocol)
+ * @param threshold           기준선 대비 허용 악화 비율(%)
+ */
+public record LoadTestOptions(
+    int concurrency,
+    Duration duration,
+    Duration warmup,
+    int profileReadsPerLogin,
+    int refreshesPerLogin,
+    int userPool,
+    List<String> providers,
+    Duration mockLatency,
+    Duration mockJitter,
+    double mockErrorRate,
+    int mockRateLimit,
+    int basePort,
+    String upstreamProtocol,
+    Path gatewayJar,
+    Path authserviceJar,
+    Path userserviceJar,
+    Path outputDirectory,
+    Path baselineFile,
+    double threshold,
+    boolean updateBaseline
+) {
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.parseInt(property("concurrency", "200")),
+                duration(property("duration", "60s")),
+                duration(property("warmup", "15s")),
+                Integer.parseInt(property("profile-reads-per-login", "10")),
+                Integer.parseInt(property("refreshes-per-login", "1")),
+                Integer.parseInt(property("user-pool", "100000")),
+                List.of(property("providers", "kakao,naver,google").split(",")),
+                duration(property("mock-latency", "80ms")),
+                duration(property("mock-jitter", "30ms")),
+                Double.parseDouble(property("mock-error-rate", "0")),
+                Integer.parseInt(property("mock-rate-limit", "0")),
+                Integer.parseInt(property("base-port", "18080")),
+                property("upstream-protocol", "h2c"),
+                Path.of(required("gateway-jar")),
+                Path.of(required("authservice-jar")),
+                Path.of(required("userservice-jar")),
+                Path.of(property("output-dir", "build/loadtest")),
+                Path.of(property("baseline", "baseline/loadtest-baseline.json")),
+                Double.parseDouble(property("threshold", "10")),
+                Boolean.parseBoolean(property("update-baseline", "false"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty("loadtest." + name);
+        if (value == null) {
+            throw new IllegalArgumentException("loadtest." + name + " 가 필요합니다");
+        }
+        return value;
+    }
+
+    /**
+     * 80ms, 15s, 2m 형식
+     */
+    private static Duration duration(String text) {
+        String value = text.trim().toLowerCase();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+}
@@ -0,0 +1,220 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 카카오·네이버·구글 토큰/사용자 정보 엔드포인트를 흉내 내는 로컬 서버
+ *
+ * 인가 코드가 곧 사용자 식별자가 되도록 access_token 에 코드를 담고, 사용자 정보 응답은 토큰에서 id 를 되살린다.
+ * 응답 지연(latency ± jitter), 오류율(500), 제공자별 초당 요청 한도(초과 시 429)를 설정할 수 있다.
+ */
+public class MockOAuthServer implements AutoCloseable {
+
+    private static final String TOKEN_PREFIX = "mock-at.";
+
+    private final HttpServer server;
+
+    private final Duration latency;
+
+    private final Duration jitter;
+
+    private final double errorRate;
+
+    private final RateLimit[] rateLimits;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder injectedErrors = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    public MockOAuthServer(int port, Duration latency, Duration jitter, double errorRate, int rateLimit) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        this.rateLimits = new RateLimit[] {new RateLimit(rateLimit), new RateLimit(rateLimit), new RateLimit(rateLimit)};
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/kakao/oauth/token", exchange -> handle(exchange, 0, this::token));
+        server.createContext("/kakao/v2/user/me", exchange -> handle(exchange, 0, this::kakaoUser));
+        server.createContext("/naver/oauth2.0/token", exchange -> handle(exchange, 1, this::token));
+        server.createContext("/naver/v1/nid/me", exchange -> handle(exchange, 1, this::naverUser));
+        server.createContext("/google/token", exchange -> handle(exchange, 2, this::token));
+        server.createContext("/google/v1/userinfo", exchange -> handle(exchange, 2, this::googleUser));
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String summary() {
+        return String.format("mock oauth: 요청 %d, 주입 오류 %d, 한도 초과 %d",
+                requests.sum(), injectedErrors.sum(), throttled.sum());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange, int provider, Handler handler) throws IOException {
+        requests.increment();
+        try (exchange) {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            sleep();
+
+            if (!rateLimits[provider].tryAcquire()) {
+                throttled.increment();
+                respond(exchange, 429, "{\"error\":\"rate_limited\"}");
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                respond(exchange, 500, "{\"error\":\"server_error\"}");
+                return;
+            }
+            handler.handle(exchange, new String(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * POST 폼 바디(카카오·구글)와 GET 쿼리(네이버) 모두에서 code 를 읽는다
+     */
+    private void token(HttpExchange exchange, String body) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        String code = parameter(body, "code");
+        if (code == null && query != null) {
+            code = parameter(query, "code");
+        }
+        if (code == null) {
+            respond(exchange, 400, "{\"error\":\"invalid_request\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"token_type\":\"bearer\",\"access_token\":\"" + TOKEN_PREFIX + code
+                + "\",\"expires_in\":\"3600\",\"refresh_token\":\"mock-rt." + code
+                + "\",\"scope\":\"profile account_email\"}");
+    }
+
+    private void kakaoUser(HttpExchange exchange, String body) throws IOException {
+        String user = user(exchange);
+        if (user == null) {
+            respond(exchange, 401, "{\"code\":-401,\"msg\":\"this access token does not exist\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"id\":" + Math.abs((long) user.hashCode()) + ",\"connected_at\":\"2024-03-02T08:12:44Z\","
+                + "\"kakao_account\":{\"profile\":{\"nickname\":\"" + user + "\",\"profile_image_url\":"
+                + "\"http://k.kakaocdn.net/dn/mock/img_640x640.jpg\",\"is_default_image\":false},"
+                + "\"has_email\":true,\"is_email_valid\":true,\"email\":\"" + user + "@kakao.mock\"}}");
+    }
+
+    private void naverUser(HttpExchange exchange, String body) throws IOException {
+        String user = user(exchange);
+        if (user == null) {
+            respond(exchange, 401, "{\"resultcode\":\"024\",\"message\":\"Authentication failed\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{\"id\":\"naver-" + user
+                + "\",\"nickname\":\"" + user + "\",\"profile_image\":\"https://ssl.pstatic.net/mock.png\","
+                + "\"email\":\"" + user + "@naver.mock\"}}");
+    }
+
+    private void googleUser(HttpExchange exchange, String body) throws IOException {
+        String user = user(exchange);
+        if (user == null) {
+            respond(exchange, 401, "{\"error\":\"invalid_token\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"sub\":\"google-" + user + "\",\"name\":\"" + user
+                + "\",\"picture\":\"https://lh3.googleusercontent.com/mock\",\"email\":\"" + user
+                + "@gmail.mock\",\"email_verified\":true}");
+    }
+
+    private static String user(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer " + TOKEN_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(("Bearer " + TOKEN_PREFIX).length());
+    }
+
+    private static String parameter(String form, String name) {
+        for (String pair : form.split("&")) {
+            int index = pair.indexOf('=');
+            if (index > 0 && pair.substring(0, index).equals(name)) {
+                return URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void sleep() {
+        long millis = latency.toMillis();
+        if (!jitter.isZero()) {
+            millis += ThreadLocalRandom.current().nextLong(-jitter.toMillis(), jitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        void handle(HttpExchange exchange, String body) throws IOException;
+    }
+
+    /**
+     * 1초 고정 창 한도 (0 이면 무제한)
+     */
+    private static final class RateLimit {
+
+        private final int perSecond;
+
+        private long window;
+
+        private int used;
+
+        RateLimit(int perSecond) {
+            this.perSecond = perSecond;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (perSecond <= 0) {
+                return true;
+            }
+            long now = System.nanoTime() / 1_000_000_000L;
+            if (now != window) {
+                window = now;
+                used = 0;
+            }
+            return ++used <= perSecond;
+        }
+    }
+}
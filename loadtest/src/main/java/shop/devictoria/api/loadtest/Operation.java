@@ -0,0 +1,25 @@
+package shop.devictoria.api.loadtest;
+
+/**
+ * 측정 단위가 되는 요청 종류
+ */
+public enum Operation {
+
+    AUTH_URL("auth-url"),
+
+    CALLBACK("callback"),
+
+    PROFILE("profile"),
+
+    REFRESH("refresh");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,93 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 bootJar 하나를 별도 JVM 으로 띄우고 /actuator/health 가 UP 이 될 때까지 기다린다
+ *
+ * 세 서비스가 같은 패키지(shop.devictoria.api)를 쓰므로 한 JVM 에 함께 올리지 않는다.
+ * 표준 출력은 build/loadtest/logs/{이름}.log 로 남는다.
+ */
+public class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+
+    private final int port;
+
+    private final Process process;
+
+    private ServiceProcess(String name, int port, Process process) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+    }
+
+    public static ServiceProcess start(String name,
+                                       Path jar,
+                                       int port,
+                                       List<String> jvmArgs,
+                                       Map<String, String> environment,
+                                       List<String> arguments,
+                                       Path logDirectory) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--logging.level.root=WARN");
+        command.addAll(arguments);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDirectory.resolve(name + ".log").toFile());
+        builder.environment().putAll(environment);
+        return new ServiceProcess(name, port, builder.start());
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public void awaitHealthy(Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " 기동 실패 (exit " + process.exitValue() + "), 로그를 확인하세요");
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " 이(가) " + timeout.toSeconds() + "초 안에 준비되지 않았습니다");
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본) vs 가상 스레드 모드 동시 접속 벤치마크
+ *
+ * userservice bootJar 를 두 모드로 차례로 별도 JVM 에 띄워, 동시 접속 수마다 정해진 시간 동안 GET /users/{id} 를 보내고
+ * 처리량과 지연 백분위, 실패 수(연결 거부·503·타임아웃)를 출력한다.
+ * 캐시를 끄고(spring.cache.type=none) 매 요청이 DB 세마포어와 커넥션 풀을 거치게 한다.
+ *
+ * 실행: ./gradlew :loadtest:benchmarkThreads [-Pconcurrency=1000,10000] [-Pduration=20s]
+ * 인자: userservice jar, 로그 디렉터리, 동시 접속 수 목록, 측정 시간.
+ * 10k 동시 연결에는 ulimit -n 이 충분히 커야 한다.
+ */
+public class ThreadModelBenchmark {
+
+    private static final int SEEDED_USERS = 1_000;
+
+    private static final List<String> JVM_ARGS = List.of("-Xms1g", "-Xmx1g", "-XX:+UseZGC");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String INTERNAL_API_TOKEN = "benchmark";
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args[0]);
+        Path logs = Files.createDirectories(Path.of(args[1]));
+        int[] levels = Arrays.stream((args.length > 2 ? args[2] : "1000,10000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.parse("PT" + (args.length > 3 ? args[3] : "20s").toUpperCase());
+        int port = Integer.getInteger("loadtest.base-port", 18080) + 2;
+
+        List<String> report = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual-threads")) {
+            List<String> arguments = new ArrayList<>(List.of(
+                    "--spring.cache.type=none",
+                    "--spring.jpa.show-sql=false"));
+            if (!"platform".equals(mode)) {
+                arguments.add("--spring.profiles.active=" + mode);
+            }
+            try (ServiceProcess userservice = ServiceProcess.start("userservice-" + mode, jar, port, JVM_ARGS,
+                    Map.of("INTERNAL_API_TOKEN", INTERNAL_API_TOKEN), arguments, logs)) {
+                userservice.awaitHealthy(Duration.ofMinutes(2));
+                long[] ids = seed(port);
+
+                run(port, ids, 200, Duration.ofSeconds(5)); // 워밍업
+                for (int concurrency : levels) {
+                    report.add(mode + " " + run(port, ids, concurrency, duration));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-16s %8s %10s %9s %9s %9s %9s%n", "mode", "conns", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * authservice 가 로그인 때 쓰는 내부 API 로 사용자를 만들고 id 를 돌려준다
+     */
+    private static long[] seed(int port) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long[] ids = new long[SEEDED_USERS];
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(Map.of(
+                    "provider", "bench", "providerUserId", String.valueOf(i), "nickname", "user" + i));
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/internal/users"))
+                    .header("Content-Type", "application/json")
+                    .header("X-Internal-Token", INTERNAL_API_TOKEN)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("사용자 생성 실패: HTTP " + response.statusCode());
+            }
+            ids[i] = OBJECT_MAPPER.readTree(response.body()).path("id").asLong();
+        }
+        return ids;
+    }
+
+    private static Result run(int port, long[] ids, int concurrency, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                int worker = w;
+                workers.submit(() -> {
+                    long[] samples = new long[1024];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/users/" + id))
+                                .timeout(Duration.ofSeconds(10))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (n == samples.length) {
+                            samples = Arrays.copyOf(samples, n * 2);
+                        }
+                        samples[n++] = System.nanoTime() - start;
+                    }
+                    latencies[worker] = samples;
+                    counts[worker] = n;
+                });
+            }
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int w = 0; w < concurrency; w++) {
+            System.arraycopy(latencies[w], 0, all, offset, counts[w]);
+            offset += counts[w];
+        }
+        Arrays.sort(all);
+        return new Result(concurrency, total / (double) duration.toSeconds(),
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1], errors.get());
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private record Result(
+        int concurrency,
+        double throughput,
+        long p50,
+        long p99,
+        long max,
+        long errors
+    ) {
+
+        @Override
+        public String toString() {
+            return String.format("%8d %10.0f %9.1f %9.1f %9.1f %9d",
+                    concurrency, throughput, p50 / 1e6, p99 / 1e6, max / 1e6, errors);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package shop.devictoria.api.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 authservice/userservice 가 받아 둔 TCP 연결 수 샘플링
+ *
+ * /proc/net/tcp, /proc/net/tcp6 에서 로컬 포트가 서비스 포트인 ESTABLISHED 소켓을 100ms 마다 센다.
+ * 대부분 게이트웨이 업스트림 풀 연결이고, authservice → userservice 로그인 이벤트 전송 연결이 몇 개 섞인다.
+ * /proc 가 없는 OS 에서는 측정하지 않는다 (결과 null).
+ */
+public class UpstreamConnectionSampler implements AutoCloseable {
+
+    private static final List<Path> TABLES = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+
+    private static final String ESTABLISHED = "01";
+
+    private final Set<Integer> ports;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "upstream-connection-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long samples;
+
+    private long total;
+
+    private int peak;
+
+    private UpstreamConnectionSampler(Set<Integer> ports) {
+        this.ports = ports;
+    }
+
+    /**
+     * 지원하지 않는 OS 면 null
+     */
+    public static UpstreamConnectionSampler start(Set<Integer> ports) {
+        if (!Files.isReadable(TABLES.get(0))) {
+            return null;
+        }
+        UpstreamConnectionSampler sampler = new UpstreamConnectionSampler(ports);
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, 100, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    private void sample() {
+        int count = 0;
+        for (Path table : TABLES) {
+            count += count(table);
+        }
+        synchronized (this) {
+            samples++;
+            total += count;
+            peak = Math.max(peak, count);
+        }
+    }
+
+    /**
+     * 행 형식: "sl local_address(hex ip:hex port) rem_address st ..."
+     */
+    private int count(Path table) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(table);
+        } catch (IOException e) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            String[] columns = lines.get(i).trim().split("\\s+");
+            if (columns.length < 4 || !ESTABLISHED.equals(columns[3])) {
+                continue;
+            }
+            String local = columns[1];
+            int port = Integer.parseInt(local.substring(local.indexOf(':') + 1), 16);
+            if (ports.contains(port)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized LoadReport.UpstreamConnections result() {
+        if (samples == 0) {
+            return null;
+        }
+        return new LoadReport.UpstreamConnections(peak, total / (double) samples);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,209 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 / 첫 요청 지연 벤치마크
+#
+# 서비스마다 빌드 모드별 산출물을 만들고 N 번씩 새 프로세스로 띄워
+#   startup_ms   프로세스 시작 ~ /actuator/health 200 (벽시계)
+#   started_ms   로그의 "Started ApiApplication in X seconds" (스프링 기준)
+#   first_ms     기동 직후 첫 요청 응답 시간 (지연 초기화·JIT 전 비용 포함)
+#   second_ms    같은 요청 두 번째 응답 시간
+#   rss_kb       첫 요청 후 상주 메모리
+# 를 build/startup-benchmark/results.csv 에 남기고 중앙값을 출력한다.
+#
+# 모드
+#   jvm     일반 bootJar
+#   aot     -Paot bootJar + -Dspring.aot.enabled=true
+#   cds     aot + 풀어 놓은 클래스패스 + AppCDS 아카이브 (Dockerfile 과 같은 구성)
+#   native  -Pnative GraalVM 네이티브 이미지 (GRAALVM_HOME 또는 native-image 필요)
+#
+# 사용: scripts/startup-benchmark.sh [-n 반복] [-m "jvm aot cds"] [-s] [서비스...]
+#   -s  빌드를 건너뛰고 이전 산출물 재사용
+#   예) scripts/startup-benchmark.sh -n 10 -m "jvm cds native" gateway userservice
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+OUT="$ROOT/build/startup-benchmark"
+RUNS=5
+MODES="jvm aot cds"
+SKIP_BUILD=false
+
+while getopts "n:m:s" opt; do
+  case "$opt" in
+    n) RUNS="$OPTARG" ;;
+    m) MODES="$OPTARG" ;;
+    s) SKIP_BUILD=true ;;
+    *) sed -n '3,21p' "$0"; exit 1 ;;
+  esac
+done
+shift $((OPTIND - 1))
+SERVICES="${*:-gateway authservice userservice}"
+
+# 서비스별 포트와 첫 요청 (게이트웨이는 업스트림 없이 띄우므로 라우팅·필터 체인까지만 타고 5xx 가 정상)
+port_of() {
+  case "$1" in
+    gateway) echo 8080 ;;
+    authservice) echo 8081 ;;
+    userservice) echo 8082 ;;
+  esac
+}
+
+first_request_of() {
+  case "$1" in
+    gateway) echo "/api/auth/kakao/auth-url" ;;
+    authservice) echo "/api/auth/kakao/auth-url" ;;
+    userservice) echo "/users/1" ;;
+  esac
+}
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+build_mode() {
+  local mode="$1" flag=""
+  case "$mode" in
+    jvm|native) ;;
+    aot|cds) flag="-Paot" ;;
+    *) echo "알 수 없는 모드: $mode" >&2; exit 1 ;;
+  esac
+
+  if [ "$mode" = native ]; then
+    local tasks=()
+    for s in $SERVICES; do tasks+=(":$s:nativeCompile"); done
+    "$ROOT/gradlew" -p "$ROOT" -q "${tasks[@]}" -Pnative -x test
+  elif [ "$mode" != cds ]; then
+    local tasks=()
+    for s in $SERVICES; do tasks+=(":$s:bootJar"); done
+    "$ROOT/gradlew" -p "$ROOT" -q "${tasks[@]}" $flag -x test
+  fi
+
+  for s in $SERVICES; do
+    local dir="$OUT/$mode/$s"
+    rm -rf "$dir" && mkdir -p "$dir"
+    case "$mode" in
+      native)
+        cp "$(project_dir "$s")/build/native/nativeCompile/app" "$dir/app"
+        ;;
+      cds)
+        # aot 모드 산출물에서 만든다 (Dockerfile 실행 단계와 같은 순서)
+        cp "$OUT/aot/$s/app.jar" "$dir/app.jar"
+        (cd "$dir" \
+          && java -Djarmode=tools -jar app.jar extract --destination application >/dev/null \
+          && rm app.jar \
+          && java -XX:ArchiveClassesAtExit=application/app.jsa -Dspring.aot.enabled=true \
+               -Dspring.context.exit=onRefresh -jar application/app.jar \
+               --server.port=0 --jwt.refresh-token-store.directory="$dir/training/refresh-tokens" \
+               --login-events.outbox.directory="$dir/training/login-events" >"$dir/training.log" 2>&1 \
+          && rm -rf "$dir/training")
+        ;;
+      *)
+        cp "$(project_dir "$s")"/build/libs/*.jar "$dir/app.jar"
+        ;;
+    esac
+  done
+}
+
+project_dir() {
+  case "$1" in
+    gateway) echo "$ROOT/gateway" ;;
+    *) echo "$ROOT/services/$1" ;;
+  esac
+}
+
+launch() {
+  local mode="$1" dir="$2" port="$3" data="$4"
+  local args=(--server.port="$port" --jwt.refresh-token-store.directory="$data/refresh-tokens"
+    --login-events.outbox.directory="$data/login-events")
+  case "$mode" in
+    jvm) exec java -jar "$dir/app.jar" "${args[@]}" ;;
+    aot) exec java -Dspring.aot.enabled=true -jar "$dir/app.jar" "${args[@]}" ;;
+    cds) exec java -XX:SharedArchiveFile="$dir/application/app.jsa" -Dspring.aot.enabled=true \
+           -jar "$dir/application/app.jar" "${args[@]}" ;;
+    native) exec "$dir/app" "${args[@]}" ;;
+  esac
+}
+
+measure() {
+  local mode="$1" service="$2" run="$3"
+  local dir="$OUT/$mode/$service" port path log data
+  port="$(port_of "$service")"
+  path="$(first_request_of "$service")"
+  log="$OUT/logs/$mode-$service-$run.log"
+  data="$(mktemp -d)"
+
+  local start pid
+  start="$(now_ms)"
+  (launch "$mode" "$dir" "$port" "$data") >"$log" 2>&1 &
+  pid=$!
+
+  local deadline=$(( start + 120000 ))
+  until curl -fs -o /dev/null "http://localhost:$port/actuator/health"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$(now_ms)" -gt "$deadline" ]; then
+      echo "$service ($mode) 기동 실패, 로그: $log" >&2
+      kill "$pid" 2>/dev/null || true
+      rm -rf "$data"
+      return 1
+    fi
+    sleep 0.02
+  done
+  local startup=$(( $(now_ms) - start ))
+
+  local first second status rss started
+  read -r status first < <(curl -s -o /dev/null -w '%{http_code} %{time_total}' "http://localhost:$port$path")
+  read -r _ second < <(curl -s -o /dev/null -w '%{http_code} %{time_total}' "http://localhost:$port$path")
+  rss="$(ps -o rss= -p "$pid" | tr -d ' ')"
+  started="$(sed -n 's/.*Started ApiApplication in \([0-9.]*\) seconds.*/\1/p' "$log" | head -1)"
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  rm -rf "$data"
+
+  printf '%s,%s,%s,%s,%s,%s,%s,%s,%s\n' "$service" "$mode" "$run" "$startup" \
+    "$(awk -v s="${started:-0}" 'BEGIN { printf "%d", s * 1000 }')" \
+    "$(awk -v s="$first" 'BEGIN { printf "%.1f", s * 1000 }')" \
+    "$(awk -v s="$second" 'BEGIN { printf "%.1f", s * 1000 }')" \
+    "$status" "$rss" >>"$OUT/results.csv"
+}
+
+mkdir -p "$OUT/logs"
+if [ "$SKIP_BUILD" = false ]; then
+  # cds 는 aot 산출물에서 만들므로 aot 를 먼저 빌드한다
+  case " $MODES " in
+    *" cds "*) ORDERED="aot $(echo " $MODES " | sed 's/ aot / /')" ;;
+    *) ORDERED="$MODES" ;;
+  esac
+  for mode in $ORDERED; do
+    echo "빌드: $mode"
+    build_mode "$mode"
+  done
+fi
+
+echo "service,mode,run,startup_ms,started_ms,first_ms,second_ms,first_status,rss_kb" >"$OUT/results.csv"
+for service in $SERVICES; do
+  for mode in $MODES; do
+    for run in $(seq 1 "$RUNS"); do
+      measure "$mode" "$service" "$run" || true
+    done
+  done
+done
+
+# 서비스·모드별 중앙값
+echo
+printf '%-12s %-7s %11s %11s %9s %10s %9s\n' service mode startup_ms started_ms first_ms second_ms rss_mb
+tail -n +2 "$OUT/results.csv" | sort -t, -k1,1 -k2,2 | awk -F, '
+  function median(list,   n, a, i, j, t) {
+    n = split(list, a, " ")
+    for (i = 1; i <= n; i++) for (j = i + 1; j <= n; j++) if (a[j] < a[i]) { t = a[i]; a[i] = a[j]; a[j] = t }
+    return n % 2 ? a[(n + 1) / 2] : (a[n / 2] + a[n / 2 + 1]) / 2
+  }
+  function flush() {
+    if (key != "") printf "%-12s %-7s %11d %11d %9.1f %10.1f %9.1f\n", svc, mode,
+      median(st), median(sp), median(fr), median(sc), median(rs) / 1024
+  }
+  {
+    if ($1 "," $2 != key) { flush(); key = $1 "," $2; svc = $1; mode = $2; st = sp = fr = sc = rs = "" }
+    st = st " " $4; sp = sp " " $5; fr = fr " " $6; sc = sc " " $7; rs = rs " " $9
+  }
+  END { flush() }'
+echo
+echo "원시 결과: $OUT/results.csv"
@@ -0,0 +1,34 @@
+package shop.devictoria.api;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+import shop.devictoria.api.http.ProviderHttpProperties;
+import shop.devictoria.api.oauth.OAuthProviderProperties;
+import shop.devictoria.api.resilience.ProviderResilienceProperties;
+import shop.devictoria.api.user.LoginEventsResult;
+
+/**
+ * 네이티브 이미지 힌트
+ *
+ * 제공자 설정 레코드는 oauth.providers 목록을 보고 Binder 로 직접 바인딩하므로 AOT 가 찾지 못한다.
+ * userservice 로그인 이벤트 반영 결과는 WebClient 가 Jackson 으로 읽는다.
+ * 빌드 시 생성한 OpenAPI 명세(-Pprod)는 실행 중에 클래스패스에서 읽는다.
+ */
+class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindableRuntimeHintsRegistrar.forTypes(
+                OAuthProviderProperties.class,
+                ProviderHttpProperties.class,
+                ProviderResilienceProperties.class
+        ).registerHints(hints, classLoader);
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), LoginEventsResult.class);
+
+        hints.resources().registerPattern("openapi/openapi.json");
+    }
+}
@@ -1,7 +0,0 @@
-package shop.devictoria.api.google;
-
-public record GoogleAuthUrlResponse(
-    String authUrl
-) {
-}
-
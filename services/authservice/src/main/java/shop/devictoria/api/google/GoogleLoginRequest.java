@@ -1,8 +0,0 @@
-package shop.devictoria.api.google;
-
-public record GoogleLoginRequest(
-    String code,
-    String redirectUri
-) {
-}
-
@@ -1,11 +0,0 @@
-package shop.devictoria.api.google;
-
-public record GoogleLoginResponse(
-    boolean success,
-    String message,
-    String accessToken,
-    String refreshToken,
-    Object userData
-) {
-}
-
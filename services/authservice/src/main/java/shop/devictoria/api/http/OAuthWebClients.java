@@ -0,0 +1,140 @@
+package shop.devictoria.api.http;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.net.ssl.SSLException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider.GenericSslContextSpec;
+
+/**
+ * OAuth 제공자 호출용 공용 WebClient 팩토리
+ *
+ * 제공자마다 전용 커넥션 풀을 두고(카카오가 느려져도 네이버 호출은 영향 없음),
+ * TLS 세션 캐시를 공유하는 SslContext 하나로 핸드셰이크 비용을 줄인다.
+ * 풀 점유율과 커넥션 획득 지연은 reactor.netty.connection.provider.* 메트릭으로 노출된다.
+ */
+@Component
+public class OAuthWebClients implements DisposableBean {
+
+    private final Environment environment;
+
+    private final WebClient.Builder webClientBuilder;
+
+    private final Map<String, ProviderClient> clients = new ConcurrentHashMap<>();
+
+    public OAuthWebClients(Environment environment, WebClient.Builder webClientBuilder) {
+        this.environment = environment;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    /**
+     * 제공자 전용 WebClient 조회 (최초 호출 시 생성)
+     */
+    public WebClient get(String provider) {
+        return clients.computeIfAbsent(provider, this::create).webClient();
+    }
+
+    private ProviderClient create(String provider) {
+        ProviderHttpProperties properties = Binder.get(environment)
+                .bindOrCreate(provider + ".http", ProviderHttpProperties.class);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-" + provider)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.evictionInterval())
+                .lifo()
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(properties.responseTimeout())
+                .resolver(spec -> spec.cacheMaxTimeToLive(properties.dnsCacheTtl()))
+                .metrics(true, OAuthWebClients::stripQuery);
+
+        if (isSecure(provider)) {
+            httpClient = secure(httpClient, properties);
+        }
+
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        return new ProviderClient(webClient, connectionProvider);
+    }
+
+    /**
+     * 풀 단위로 SslContext 하나를 재사용해야 TLS 세션 재개(session resumption)가 동작하므로
+     * 스펙을 넘기지 않고 여기서 한 번 만든 SslContext 를 넘긴다
+     */
+    private static HttpClient secure(HttpClient httpClient, ProviderHttpProperties properties) {
+        GenericSslContextSpec<SslContextBuilder> protocolSpec = properties.http2()
+                ? Http2SslContextSpec.forClient()
+                : Http11SslContextSpec.forClient();
+        GenericSslContextSpec<SslContextBuilder> sslContextSpec = protocolSpec.configure(builder -> builder
+                .sessionCacheSize(properties.tlsSessionCacheSize())
+                .sessionTimeout(properties.tlsSessionTimeout().toSeconds()));
+
+        SslContext sslContext;
+        try {
+            sslContext = sslContextSpec.sslContext();
+        } catch (SSLException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (properties.http2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient.secure(spec -> spec.sslContext(sslContext));
+    }
+
+    /**
+     * 서버가 호출하는 엔드포인트(토큰, 사용자 정보, 토큰 정보) 중 하나라도 평문 HTTP(로컬 목 서버 등)면
+     * TLS/HTTP2 설정을 적용하지 않는다. 이때도 https 엔드포인트는 reactor-netty 기본 TLS 로 호출된다
+     */
+    private boolean isSecure(String provider) {
+        return Stream.of(".token-uri", ".user-info-uri", ".token-info.uri")
+                .map(key -> environment.getProperty(provider + key))
+                .filter(uri -> uri != null && !uri.isBlank())
+                .allMatch(uri -> uri.startsWith("https://"));
+    }
+
+    /**
+     * 메트릭 태그에 인가 코드 등 쿼리 파라미터가 섞이지 않도록 제거
+     */
+    private static String stripQuery(String uri) {
+        int index = uri.indexOf('?');
+        return index < 0 ? uri : uri.substring(0, index);
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> client.connectionProvider().dispose());
+    }
+
+    private record ProviderClient(WebClient webClient, ConnectionProvider connectionProvider) {
+    }
+}
@@ -0,0 +1,24 @@
+package shop.devictoria.api.http;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OAuth 제공자별 아웃바운드 HTTP 설정 ({@code <provider>.http.*})
+ */
+public record ProviderHttpProperties(
+    @DefaultValue("50") int maxConnections,
+    @DefaultValue("200") int pendingAcquireMaxCount,
+    @DefaultValue("2s") Duration pendingAcquireTimeout,
+    @DefaultValue("30s") Duration maxIdleTime,
+    @DefaultValue("5m") Duration maxLifeTime,
+    @DefaultValue("15s") Duration evictionInterval,
+    @DefaultValue("2s") Duration connectTimeout,
+    @DefaultValue("5s") Duration responseTimeout,
+    @DefaultValue("true") boolean http2,
+    @DefaultValue("60s") Duration dnsCacheTtl,
+    @DefaultValue("256") int tlsSessionCacheSize,
+    @DefaultValue("30m") Duration tlsSessionTimeout
+) {
+}
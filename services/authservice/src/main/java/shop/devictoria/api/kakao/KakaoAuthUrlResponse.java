@@ -1,7 +0,0 @@
-package shop.devictoria.api.kakao;
-
-public record KakaoAuthUrlResponse(
-    String authUrl
-) {
-}
-
@@ -1,8 +0,0 @@
-package shop.devictoria.api.kakao;
-
-public record KakaoLoginRequest(
-    String code,
-    String redirectUri
-) {
-}
-
@@ -0,0 +1,97 @@
+package shop.devictoria.api.logging;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 단위 구조화 로그
+ *
+ * 이벤트 루프 스레드에서는 레벨/샘플링 판정 후 링 버퍼 슬롯에 참조만 넘기고 바로 반환한다.
+ * 로그가 꺼져 있거나 샘플링에서 빠지면 아무것도 할당하지 않도록 가변 인자 대신 고정 인자 오버로드를 쓴다.
+ * code/state/accessToken/refreshToken 등의 값은 출력 시점에 마스킹된다.
+ *
+ * 엔드포인트별 샘플링 비율은 request-log.sampling.{endpoint} 로 지정한다 (0.0 ~ 1.0).
+ */
+@Component
+public class RequestLog implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger("request-log");
+
+    private final RingBufferAppender appender;
+
+    private final Map<String, Double> samplingRates;
+
+    private final double defaultSamplingRate;
+
+    public RequestLog(Environment environment,
+                      @Value("${request-log.buffer-size:8192}") int bufferSize,
+                      @Value("${request-log.default-sampling-rate:1.0}") double defaultSamplingRate) {
+        this.appender = new RingBufferAppender(logger, bufferSize);
+        this.defaultSamplingRate = defaultSamplingRate;
+        this.samplingRates = Binder.get(environment)
+                .bind("request-log.sampling", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+    }
+
+    public boolean isEnabled(String endpoint) {
+        if (!logger.isInfoEnabled()) {
+            return false;
+        }
+        double rate = samplingRates.getOrDefault(endpoint, defaultSamplingRate);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    public void log(String endpoint, String event) {
+        if (isEnabled(endpoint)) {
+            appender.append(endpoint, event, null, null, null, null, null, null, null, null);
+        }
+    }
+
+    public void log(String endpoint, String event, String key1, Object value1) {
+        if (isEnabled(endpoint)) {
+            appender.append(endpoint, event, key1, value1, null, null, null, null, null, null);
+        }
+    }
+
+    public void log(String endpoint, String event, String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(endpoint)) {
+            appender.append(endpoint, event, key1, value1, key2, value2, null, null, null, null);
+        }
+    }
+
+    public void log(String endpoint, String event,
+                    String key1, Object value1, String key2, Object value2, String key3, Object value3) {
+        if (isEnabled(endpoint)) {
+            appender.append(endpoint, event, key1, value1, key2, value2, key3, value3, null, null);
+        }
+    }
+
+    public void log(String endpoint, String event,
+                    String key1, Object value1, String key2, Object value2,
+                    String key3, Object value3, String key4, Object value4) {
+        if (isEnabled(endpoint)) {
+            appender.append(endpoint, event, key1, value1, key2, value2, key3, value3, key4, value4);
+        }
+    }
+
+    /**
+     * 버퍼 포화로 버려진 이벤트 수
+     */
+    public long dropped() {
+        return appender.dropped();
+    }
+
+    @Override
+    public void destroy() {
+        appender.shutdown();
+    }
+}
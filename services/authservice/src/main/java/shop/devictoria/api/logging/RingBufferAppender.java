@@ -0,0 +1,217 @@
+package shop.devictoria.api.logging;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+
+/**
+ * 고정 크기 링 버퍼 + 전용 writer 스레드
+ *
+ * 슬롯을 미리 할당해 두고 생산자는 시퀀스 CAS 로 슬롯을 선점해 참조만 채운다
+ * (Vyukov bounded MPMC 큐 방식). 문자열 포맷팅/마스킹/출력은 모두 writer 스레드에서 한다.
+ * 버퍼가 가득 차면 기다리지 않고 버리며 버린 건수만 센다.
+ */
+final class RingBufferAppender {
+
+    static final int MAX_FIELDS = 4;
+
+    private static final Set<String> SENSITIVE_KEYS = Set.of(
+            "code", "state", "accessToken", "refreshToken", "token", "authorization", "codeVerifier");
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    private final AtomicLong producerSequence = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Logger logger;
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    RingBufferAppender(Logger logger, int bufferSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = capacity - 1;
+        this.logger = logger;
+        this.writer = new Thread(this::drainLoop, "request-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 이벤트 적재. 버퍼가 가득 차면 false
+     */
+    boolean append(String endpoint, String event,
+                   String key1, Object value1, String key2, Object value2,
+                   String key3, Object value3, String key4, Object value4) {
+        Slot slot;
+        long sequence;
+        while (true) {
+            sequence = producerSequence.get();
+            slot = slots[(int) (sequence & mask)];
+            long available = slot.sequence;
+            if (available < sequence) {
+                dropped.increment();
+                return false;
+            }
+            if (available == sequence && producerSequence.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        slot.timestamp = System.currentTimeMillis();
+        slot.endpoint = endpoint;
+        slot.event = event;
+        slot.keys[0] = key1;
+        slot.values[0] = value1;
+        slot.keys[1] = key2;
+        slot.values[1] = value2;
+        slot.keys[2] = key3;
+        slot.values[2] = value3;
+        slot.keys[3] = key4;
+        slot.values[3] = value4;
+        slot.sequence = sequence + 1;
+        return true;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        long next = 0;
+        long reportedDrops = 0;
+
+        while (running || slots[(int) (next & mask)].sequence == next + 1) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence != next + 1) {
+                long drops = dropped.sum();
+                if (drops != reportedDrops) {
+                    logger.warn("{\"event\":\"request-log.dropped\",\"count\":{}}", drops - reportedDrops);
+                    reportedDrops = drops;
+                }
+                LockSupport.parkNanos(1_000_000L);
+                continue;
+            }
+
+            line.setLength(0);
+            format(slot, line);
+            slot.clear();
+            slot.sequence = next + slots.length;
+            next++;
+
+            logger.info(line.toString());
+        }
+    }
+
+    private static void format(Slot slot, StringBuilder line) {
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(slot.timestamp)).append('"');
+        appendField(line, "endpoint", slot.endpoint);
+        appendField(line, "event", slot.event);
+        for (int i = 0; i < MAX_FIELDS; i++) {
+            String key = slot.keys[i];
+            if (key != null) {
+                Object value = slot.values[i];
+                appendField(line, key, SENSITIVE_KEYS.contains(key) ? redact(value) : value);
+            }
+        }
+        line.append('}');
+    }
+
+    /**
+     * 토큰/인가 코드는 앞 4자와 길이만 남긴다
+     */
+    static String redact(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        if (text.length() <= 8) {
+            return "***";
+        }
+        return text.substring(0, 4) + "***(" + text.length() + ")";
+    }
+
+    private static void appendField(StringBuilder line, String key, Object value) {
+        line.append(",\"").append(key).append("\":");
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            line.append(value);
+        } else {
+            line.append('"');
+            escape(line, value.toString());
+            line.append('"');
+        }
+    }
+
+    private static void escape(StringBuilder line, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Slot {
+
+        volatile long sequence;
+
+        long timestamp;
+
+        String endpoint;
+
+        String event;
+
+        final String[] keys = new String[MAX_FIELDS];
+
+        final Object[] values = new Object[MAX_FIELDS];
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+
+        void clear() {
+            endpoint = null;
+            event = null;
+            for (int i = 0; i < MAX_FIELDS; i++) {
+                keys[i] = null;
+                values[i] = null;
+            }
+        }
+    }
+}
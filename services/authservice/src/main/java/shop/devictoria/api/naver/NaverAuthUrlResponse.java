@@ -1,7 +0,0 @@
-package shop.devictoria.api.naver;
-
-public record NaverAuthUrlResponse(
-    String authUrl
-) {
-}
-
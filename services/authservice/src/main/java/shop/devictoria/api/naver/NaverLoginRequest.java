@@ -1,8 +0,0 @@
-package shop.devictoria.api.naver;
-
-public record NaverLoginRequest(
-    String code,
-    String redirectUri
-) {
-}
-
@@ -1,10 +0,0 @@
-package shop.devictoria.api.naver;
-
-public record NaverTokenResponse(
-    String accessToken,
-    String refreshToken,
-    String tokenType,
-    Integer expiresIn
-) {
-}
-
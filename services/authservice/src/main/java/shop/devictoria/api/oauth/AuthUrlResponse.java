@@ -0,0 +1,7 @@
+package shop.devictoria.api.oauth;
+
+public record AuthUrlResponse(
+    String authUrl,
+    String state
+) {
+}
@@ -0,0 +1,153 @@
+package shop.devictoria.api.oauth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자별 /auth-url 응답 본문 템플릿
+ *
+ * 기동 시 자리표시자 state·code_challenge 로 {@link AuthUrlResponse} 를 한 번 직렬화해 두고 자리표시자 기준으로 잘라
+ * 고정 부분을 UTF-8 바이트로 보관한다. 요청마다 응답 버퍼(서버의 풀링 할당자)를 정확한 크기로 한 번 잡아
+ * 고정 바이트와 state·code_challenge 를 차례로 쓰므로 URL 문자열이나 Jackson 직렬화가 없다.
+ * state·code_challenge 는 base64url 이라 JSON·URL 이스케이프 없이 ASCII 로 그대로 쓸 수 있다.
+ *
+ * 직접 구현한 제공자가 state 를 인코딩하는 등 자리표시자가 URL 에 그대로 남지 않으면 요청마다 직렬화한다.
+ */
+public final class AuthUrlTemplate {
+
+    private static final String STATE_MARKER = "{state}";
+
+    private static final String CODE_CHALLENGE_MARKER = "{code_challenge}";
+
+    private static final int STATE = 0;
+
+    private static final int CODE_CHALLENGE = 1;
+
+    private final OAuthProvider provider;
+
+    private final ObjectWriter responseWriter;
+
+    /**
+     * 고정 부분. literals[i] 다음에 slots[i] 값이 온다 (literals 가 하나 더 길다). 템플릿을 못 만들면 null
+     */
+    private final byte[][] literals;
+
+    private final int[] slots;
+
+    private final int literalLength;
+
+    private AuthUrlTemplate(OAuthProvider provider, ObjectWriter responseWriter, byte[][] literals, int[] slots) {
+        this.provider = provider;
+        this.responseWriter = responseWriter;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        if (literals != null) {
+            for (byte[] literal : literals) {
+                length += literal.length;
+            }
+        }
+        this.literalLength = length;
+    }
+
+    public static AuthUrlTemplate of(OAuthProvider provider, ObjectMapper objectMapper) {
+        ObjectWriter responseWriter = objectMapper.writerFor(AuthUrlResponse.class);
+        String url = provider.authUrl(STATE_MARKER, provider.pkce() ? CODE_CHALLENGE_MARKER : null);
+        if (occurrences(url, STATE_MARKER) != 1
+                || occurrences(url, CODE_CHALLENGE_MARKER) != (provider.pkce() ? 1 : 0)) {
+            return new AuthUrlTemplate(provider, responseWriter, null, null);
+        }
+
+        String json;
+        try {
+            json = responseWriter.writeValueAsString(new AuthUrlResponse(url, STATE_MARKER));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(provider.id() + " 인증 URL 응답 템플릿 생성 실패", e);
+        }
+
+        List<byte[]> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int state = json.indexOf(STATE_MARKER, start);
+            int challenge = json.indexOf(CODE_CHALLENGE_MARKER, start);
+            if (state < 0 && challenge < 0) {
+                break;
+            }
+            boolean stateFirst = challenge < 0 || (state >= 0 && state < challenge);
+            int at = stateFirst ? state : challenge;
+            literals.add(json.substring(start, at).getBytes(StandardCharsets.UTF_8));
+            slots.add(stateFirst ? STATE : CODE_CHALLENGE);
+            start = at + (stateFirst ? STATE_MARKER : CODE_CHALLENGE_MARKER).length();
+        }
+        literals.add(json.substring(start).getBytes(StandardCharsets.UTF_8));
+
+        return new AuthUrlTemplate(provider, responseWriter, literals.toArray(byte[][]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 200 응답으로 본문을 쓴다
+     *
+     * @param codeChallenge PKCE 미사용 시 null
+     */
+    public Mono<Void> write(ServerHttpResponse response, String state, String codeChallenge) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setCacheControl(CacheControl.noStore());
+        if (literals != null) {
+            headers.setContentLength(length(state, codeChallenge));
+        }
+        // 버퍼는 실제로 쓸 때 할당해 구독 전에 취소돼도 새지 않게 한다
+        return response.writeWith(Mono.fromCallable(() -> render(response.bufferFactory(), state, codeChallenge)));
+    }
+
+    /**
+     * 응답 본문 버퍼. 호출한 쪽이 쓰거나 해제한다
+     */
+    public DataBuffer render(DataBufferFactory bufferFactory, String state, String codeChallenge)
+            throws JsonProcessingException {
+        if (literals == null) {
+            return bufferFactory.wrap(responseWriter.writeValueAsBytes(
+                    new AuthUrlResponse(provider.authUrl(state, codeChallenge), state)));
+        }
+
+        DataBuffer buffer = bufferFactory.allocateBuffer(length(state, codeChallenge));
+        for (int i = 0; i < slots.length; i++) {
+            buffer.write(literals[i]);
+            buffer.write(slots[i] == STATE ? state : codeChallenge, StandardCharsets.US_ASCII);
+        }
+        buffer.write(literals[slots.length]);
+        return buffer;
+    }
+
+    private int length(String state, String codeChallenge) {
+        int length = literalLength;
+        for (int slot : slots) {
+            length += slot == STATE ? state.length() : codeChallenge.length();
+        }
+        return length;
+    }
+
+    private static int occurrences(String text, String marker) {
+        int count = 0;
+        for (int at = text.indexOf(marker); at >= 0; at = text.indexOf(marker, at + marker.length())) {
+            count++;
+        }
+        return count;
+    }
+}
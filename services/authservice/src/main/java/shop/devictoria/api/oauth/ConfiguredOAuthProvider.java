@@ -0,0 +1,222 @@
+package shop.devictoria.api.oauth;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.resilience.ProviderCall;
+import shop.devictoria.api.resilience.ProviderGuard;
+import shop.devictoria.api.resilience.ProviderUnavailableException;
+
+/**
+ * 설정 테이블 기반 OAuth 제공자
+ *
+ * 인증 URL 은 설정값이 기동 후 바뀌지 않으므로 생성 시 한 번만 인코딩해 두고 요청마다 state 만 붙인다.
+ * 토큰 요청 파라미터도 인가 코드만 빼고 미리 만들어 두고 요청마다 code 만 덧붙인다.
+ * 응답 본문은 Map 으로 디코딩하지 않고 {@link ProviderResponseReader} 가 JSON 토큰 스트림에서 필요한 필드만 읽는다.
+ * 제공자 호출은 모두 {@link ProviderGuard} 를 거치며, 멱등인 사용자 정보 조회만 헤지한다.
+ * 액세스 토큰 확인은 설정의 토큰 정보 API 로 발급 대상(aud, app_id 등)이 이 서비스인지 본다.
+ * 감싼 예외 메시지에는 제공자 오류 메시지를 옮기지 않는다 (요청 URI 에 client_secret·code·토큰이 들어갈 수 있다).
+ */
+public class ConfiguredOAuthProvider implements OAuthProvider {
+
+    private final String id;
+
+    private final OAuthProviderProperties properties;
+
+    private final WebClient webClient;
+
+    private final UserInfoCache userInfoCache;
+
+    private final ProviderGuard guard;
+
+    private final String authUrl;
+
+    private final MultiValueMap<String, String> tokenParams;
+
+    private final boolean tokenRequestAsQuery;
+
+    private final ProviderResponseReader responseReader;
+
+    /**
+     * 기대하는 토큰 발급 대상. 토큰 정보 API 가 없거나 빈 값이면 null 이라 토큰을 확인하지 않는다
+     */
+    private final String audience;
+
+    public ConfiguredOAuthProvider(String id,
+                                   OAuthProviderProperties properties,
+                                   WebClient webClient,
+                                   UserInfoCache userInfoCache,
+                                   ProviderGuard guard) {
+        this.id = id;
+        this.properties = properties;
+        this.webClient = webClient;
+        this.userInfoCache = userInfoCache;
+        this.guard = guard;
+        this.authUrl = buildAuthUrl(properties);
+        this.tokenParams = buildTokenParams(properties);
+        this.tokenRequestAsQuery = "GET".equalsIgnoreCase(properties.tokenRequestMethod());
+        this.responseReader = new ProviderResponseReader(id, properties.userInfo(), properties.tokenInfo());
+        this.audience = audience(properties);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public String displayName() {
+        return properties.displayName() != null ? properties.displayName() : id;
+    }
+
+    @Override
+    public String redirectUri() {
+        return properties.redirectUri();
+    }
+
+    @Override
+    public boolean pkce() {
+        return properties.pkce();
+    }
+
+    @Override
+    public String authUrl(String state, String codeChallenge) {
+        StringBuilder url = new StringBuilder(authUrl.length() + 128)
+                .append(authUrl)
+                .append("&state=").append(state);
+        if (codeChallenge != null) {
+            url.append("&code_challenge=").append(codeChallenge)
+                    .append("&code_challenge_method=S256");
+        }
+        return url.toString();
+    }
+
+    @Override
+    public Mono<OAuthToken> exchangeCode(String code, String state, String codeVerifier) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>(tokenParams);
+        params.add("code", code);
+        if (state != null && properties.includeStateInTokenRequest()) {
+            params.add("state", state);
+        }
+        if (codeVerifier != null) {
+            params.add("code_verifier", codeVerifier);
+        }
+
+        WebClient.RequestHeadersSpec<?> request = tokenRequestAsQuery
+                ? webClient.get().uri(UriComponentsBuilder.fromUriString(properties.tokenUri())
+                        .queryParams(params).encode().build().toUri())
+                : webClient.post().uri(properties.tokenUri())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(params));
+
+        return guard.protect(ProviderCall.TOKEN, read(request, responseReader::readToken))
+                .onErrorMap(e -> !(e instanceof ProviderUnavailableException),
+                        e -> new RuntimeException(displayName() + " 토큰 발급 실패", e))
+                .filter(token -> token.accessToken() != null)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(displayName() + " 토큰 발급 실패")));
+    }
+
+    @Override
+    public Mono<OAuthUserProfile> fetchUserProfile(String accessToken, Integer expiresIn) {
+        return userInfoCache.get(id, accessToken, expiresIn, this::requestUserProfile);
+    }
+
+    @Override
+    public Mono<VerifiedProviderToken> verifyAccessToken(String accessToken) {
+        if (audience == null) {
+            return Mono.empty();
+        }
+        OAuthProviderProperties.TokenInfo tokenInfo = properties.tokenInfo();
+        WebClient.RequestHeadersSpec<?> request = tokenInfo.tokenParam() != null && !tokenInfo.tokenParam().isEmpty()
+                ? webClient.post().uri(tokenInfo.uri())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(tokenInfo.tokenParam(), accessToken))
+                : webClient.get().uri(tokenInfo.uri())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+        return guard.protect(ProviderCall.TOKEN_INFO, read(request, responseReader::readTokenInfo))
+                .onErrorMap(e -> !(e instanceof ProviderUnavailableException),
+                        e -> new RuntimeException(displayName() + " 토큰 정보 조회 실패", e))
+                .filter(info -> info.subject() != null && !info.audiences().isEmpty()
+                        && info.audiences().stream().allMatch(audience::equals))
+                .map(info -> new VerifiedProviderToken(info.subject(), info.expiresIn()));
+    }
+
+    private Mono<OAuthUserProfile> requestUserProfile(String accessToken) {
+        return guard.hedged(ProviderCall.USER_INFO, () -> read(webClient.get()
+                        .uri(properties.userInfoUri())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken),
+                        responseReader::readUserProfile))
+                .onErrorMap(e -> !(e instanceof ProviderUnavailableException),
+                        e -> new RuntimeException(displayName() + " 사용자 정보 조회 실패", e))
+                .filter(profile -> profile.id() != null)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException(displayName() + " 사용자 정보 조회 실패")));
+    }
+
+    /**
+     * 응답 본문을 버퍼 하나로 모아 바로 레코드로 읽는다.
+     * 헤지에서 진 호출처럼 읽기 전에 취소되면 모아 둔 버퍼를 해제한다
+     */
+    private static <T> Mono<T> read(WebClient.RequestHeadersSpec<?> request, BodyReader<T> reader) {
+        return request.retrieve()
+                .bodyToMono(DataBuffer.class)
+                .map(body -> {
+                    try {
+                        return reader.read(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private static String audience(OAuthProviderProperties properties) {
+        OAuthProviderProperties.TokenInfo tokenInfo = properties.tokenInfo();
+        if (tokenInfo == null || tokenInfo.uri() == null || tokenInfo.uri().isEmpty()) {
+            return null;
+        }
+        String audience = tokenInfo.audience() != null ? tokenInfo.audience() : properties.clientId();
+        return audience.isEmpty() ? null : audience;
+    }
+
+    private static String buildAuthUrl(OAuthProviderProperties properties) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(properties.authUri())
+                .queryParam("client_id", properties.clientId())
+                .queryParam("redirect_uri", properties.redirectUri())
+                .queryParam("response_type", "code");
+        if (properties.scope() != null && !properties.scope().isEmpty()) {
+            builder.queryParam("scope", properties.scope());
+        }
+        properties.authParams().forEach(builder::queryParam);
+        return builder.encode().build().toUriString();
+    }
+
+    private static MultiValueMap<String, String> buildTokenParams(OAuthProviderProperties properties) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", properties.clientId());
+        if (!properties.clientSecret().isEmpty()) {
+            params.add("client_secret", properties.clientSecret());
+        }
+        params.add("redirect_uri", properties.redirectUri());
+        properties.tokenParams().forEach(params::add);
+        return params;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+
+        T read(DataBuffer body) throws IOException;
+    }
+}
@@ -0,0 +1,78 @@
+package shop.devictoria.api.oauth;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자 액세스 토큰(불투명 토큰) 인트로스펙션
+ *
+ * 게이트웨이 전용 내부 API 로, 게이트웨이 라우트(/api/**)로는 공개되지 않는다.
+ * 사용자 정보 조회는 다른 앱에 발급된 토큰도 통과시키므로(confused deputy), 제공자 토큰 정보 API 로
+ * 토큰 발급 대상이 이 서비스의 client-id(앱)인지 확인한 토큰만 활성으로 본다. 발급 대상을 확인할 수 없는 제공자는 항상 비활성.
+ * 제공자가 4xx 로 거절하면 비활성, 제공자 장애·서킷 열림 등 판단할 수 없으면 503 (게이트웨이는 503 을 캐시하지 않는다).
+ */
+@RestController
+@RequestMapping("/internal/tokens")
+@Tag(name = "Internal", description = "서비스 간 내부 API")
+public class IntrospectionController {
+
+    private final OAuthProviderRegistry providers;
+
+    public IntrospectionController(OAuthProviderRegistry providers) {
+        this.providers = providers;
+    }
+
+    @PostMapping("/introspect")
+    @Operation(summary = "토큰 인트로스펙션", description = "제공자 액세스 토큰이 유효한지 확인하고 사용자 식별자를 반환합니다")
+    public Mono<ResponseEntity<IntrospectionResponse>> introspect(@RequestBody IntrospectionRequest request) {
+        if (request.token() == null || request.token().isEmpty() || request.provider() == null) {
+            return Mono.just(ok(IntrospectionResponse.INACTIVE));
+        }
+        OAuthProvider provider = providers.find(request.provider()).orElse(null);
+        if (provider == null) {
+            return Mono.just(ok(IntrospectionResponse.INACTIVE));
+        }
+
+        return provider.verifyAccessToken(request.token())
+                .map(verified -> ok(new IntrospectionResponse(true, provider.id() + ":" + verified.providerUserId(),
+                        provider.id(), expiresAt(verified.expiresIn()))))
+                .defaultIfEmpty(ok(IntrospectionResponse.INACTIVE))
+                .onErrorResume(IntrospectionController::rejectedByProvider,
+                        e -> Mono.just(ok(IntrospectionResponse.INACTIVE)))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
+    }
+
+    private static Long expiresAt(Long expiresIn) {
+        return expiresIn != null ? System.currentTimeMillis() / 1000 + expiresIn : null;
+    }
+
+    private static ResponseEntity<IntrospectionResponse> ok(IntrospectionResponse response) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+
+    /**
+     * 제공자가 토큰을 거절했는지 (만료·폐기된 토큰은 401, 형식이 틀리면 400 등).
+     * 429 는 토큰이 아니라 호출량 문제라 판단할 수 없음으로 본다
+     */
+    private static boolean rejectedByProvider(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException response) {
+                return response.getStatusCode().is4xxClientError()
+                        && response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        return false;
+    }
+}
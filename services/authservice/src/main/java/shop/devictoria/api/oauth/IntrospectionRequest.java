@@ -0,0 +1,11 @@
+package shop.devictoria.api.oauth;
+
+/**
+ * @param token    제공자 액세스 토큰
+ * @param provider 토큰을 발급한 제공자 ID (게이트웨이가 클라이언트의 X-Auth-Provider 헤더로 채운다)
+ */
+public record IntrospectionRequest(
+    String token,
+    String provider
+) {
+}
@@ -0,0 +1,17 @@
+package shop.devictoria.api.oauth;
+
+/**
+ * 토큰 인트로스펙션 결과 (RFC 7662 필드 이름)
+ *
+ * @param sub 액세스 토큰 subject 와 같은 "{provider}:{providerUserId}"
+ * @param exp 이 결과를 믿어도 되는 시각 (epoch 초). 로그인 때 본 토큰이면 토큰 만료 시각, 모르면 null
+ */
+public record IntrospectionResponse(
+    boolean active,
+    String sub,
+    String provider,
+    Long exp
+) {
+
+    static final IntrospectionResponse INACTIVE = new IntrospectionResponse(false, null, null, null);
+}
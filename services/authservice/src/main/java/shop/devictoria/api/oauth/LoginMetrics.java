@@ -0,0 +1,50 @@
+package shop.devictoria.api.oauth;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 결과 카운터 (oauth.logins{provider,result})
+ *
+ * result: success, rejected(state 검증 실패), unavailable(제공자 차단/과부하), failed(그 외)
+ */
+@Component
+public class LoginMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void succeeded(String provider) {
+        counter(provider, "success").increment();
+    }
+
+    public void rejected(String provider) {
+        counter(provider, "rejected").increment();
+    }
+
+    public void unavailable(String provider) {
+        counter(provider, "unavailable").increment();
+    }
+
+    public void failed(String provider) {
+        counter(provider, "failed").increment();
+    }
+
+    private Counter counter(String provider, String result) {
+        return counters.computeIfAbsent(provider + ":" + result, key -> Counter.builder("oauth.logins")
+                .description("소셜 로그인 결과")
+                .tag("provider", provider)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
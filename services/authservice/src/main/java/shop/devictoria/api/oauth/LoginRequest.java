@@ -0,0 +1,8 @@
+package shop.devictoria.api.oauth;
+
+public record LoginRequest(
+    String code,
+    String redirectUri,
+    String state
+) {
+}
@@ -1,6 +1,6 @@
-package shop.devictoria.api.kakao;
+package shop.devictoria.api.oauth;
 
-public record KakaoLoginResponse(
+public record LoginResponse(
     boolean success,
     String message,
     String accessToken,
@@ -8,4 +8,3 @@ public record KakaoLoginResponse(
     Object userData
 ) {
 }
-
@@ -0,0 +1,253 @@
+package shop.devictoria.api.oauth;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.logging.RequestLog;
+import shop.devictoria.api.resilience.ProviderUnavailableException;
+import shop.devictoria.api.state.InvalidStateException;
+import shop.devictoria.api.state.OAuthStateService;
+import shop.devictoria.api.state.PendingAuthorization;
+import shop.devictoria.api.state.StateStoreFullException;
+import shop.devictoria.api.token.JwtIssuer;
+import shop.devictoria.api.token.RefreshTokenService;
+import shop.devictoria.api.user.LoginEventPublisher;
+
+@RestController
+@RequestMapping("/api/auth/{provider}")
+@Tag(name = "OAuth", description = "소셜 로그인 API (kakao, naver, google)")
+public class OAuthController {
+    
+    private final OAuthProviderRegistry providers;
+    
+    private final JwtIssuer jwtIssuer;
+    
+    private final RequestLog requestLog;
+    
+    private final OAuthStateService stateService;
+    
+    private final RefreshTokenService refreshTokenService;
+    
+    private final LoginEventPublisher loginEvents;
+    
+    private final LoginMetrics loginMetrics;
+    
+    /**
+     * 요청마다 문자열을 만들지 않도록 제공자별 로그 엔드포인트 이름을 한 번만 만든다
+     */
+    private final Map<String, LogEndpoints> logEndpoints = new ConcurrentHashMap<>();
+    
+    /**
+     * 제공자별 /auth-url 응답 템플릿 (기동 시 생성)
+     */
+    private final Map<String, AuthUrlTemplate> authUrlTemplates;
+    
+    public OAuthController(OAuthProviderRegistry providers,
+                           JwtIssuer jwtIssuer,
+                           RequestLog requestLog,
+                           OAuthStateService stateService,
+                           RefreshTokenService refreshTokenService,
+                           LoginEventPublisher loginEvents,
+                           LoginMetrics loginMetrics,
+                           ObjectMapper objectMapper) {
+        this.providers = providers;
+        this.jwtIssuer = jwtIssuer;
+        this.requestLog = requestLog;
+        this.stateService = stateService;
+        this.refreshTokenService = refreshTokenService;
+        this.loginEvents = loginEvents;
+        this.loginMetrics = loginMetrics;
+        Map<String, AuthUrlTemplate> templates = new HashMap<>();
+        providers.all().forEach((id, provider) -> templates.put(id, AuthUrlTemplate.of(provider, objectMapper)));
+        this.authUrlTemplates = Map.copyOf(templates);
+    }
+    
+    /**
+     * 응답은 {@link AuthUrlTemplate} 이 미리 직렬화한 바이트에 state 만 끼워 응답 버퍼에 바로 쓴다
+     */
+    @GetMapping(value = "/auth-url", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "소셜 로그인 URL 생성", description = "1회용 state 를 발급하고 제공자 로그인 화면으로 이동할 URL을 반환합니다")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = AuthUrlResponse.class)))
+    public Mono<Void> getAuthUrl(@PathVariable String provider, ServerHttpResponse response) {
+        OAuthProvider oauthProvider = require(provider);
+        AuthUrlTemplate template = authUrlTemplates.get(oauthProvider.id());
+        
+        return stateService.begin(oauthProvider.id(), oauthProvider.pkce())
+                .flatMap(authorization -> {
+                    requestLog.log(endpoints(oauthProvider).authUrl(), "auth-url.issued",
+                            "state", authorization.state(), "redirectUri", oauthProvider.redirectUri());
+                    
+                    return template.write(response, authorization.state(), authorization.codeChallenge());
+                })
+                .onErrorResume(StateStoreFullException.class, e -> {
+                    response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    return response.setComplete();
+                });
+    }
+    
+    @PostMapping("/login")
+    @Operation(summary = "소셜 로그인", description = "제공자 인증 코드로 로그인합니다")
+    public Mono<ResponseEntity<LoginResponse>> login(@PathVariable String provider, @RequestBody LoginRequest request) {
+        OAuthProvider oauthProvider = require(provider);
+        String endpoint = endpoints(oauthProvider).login();
+        
+        requestLog.log(endpoint, "login.requested", "code", request.code(), "state", request.state());
+        
+        // SPA 가 직접 코드를 넘기는 흐름도 /auth-url 에서 받은 state 를 반드시 소비한다 (없으면 login.rejected 400, CSRF 방지)
+        return authenticate(oauthProvider, endpoint, request, stateService.complete(oauthProvider.id(), request.state()));
+    }
+    
+    @GetMapping("/callback")
+    @Operation(summary = "소셜 로그인 콜백", description = "제공자 인증 후 리다이렉트되는 콜백 URL")
+    public Mono<ResponseEntity<LoginResponse>> callback(@PathVariable String provider,
+                                                        @RequestParam(required = false) String code,
+                                                        @RequestParam(required = false) String state) {
+        OAuthProvider oauthProvider = require(provider);
+        String endpoint = endpoints(oauthProvider).callback();
+        
+        requestLog.log(endpoint, "callback.requested", "code", code, "state", state);
+        
+        LoginRequest request = new LoginRequest(code, oauthProvider.redirectUri(), state);
+        
+        if (code == null || code.isEmpty()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new LoginResponse(
+                    false,
+                    oauthProvider.displayName() + " 인증 코드가 없습니다",
+                    null,
+                    null,
+                    request
+            )));
+        }
+        
+        return authenticate(oauthProvider, endpoint, request, stateService.complete(oauthProvider.id(), state));
+    }
+    
+    /**
+     * state 검증 → 토큰 교환 → 사용자 정보 조회 → 리프레시 토큰 발급을 하나의 논블로킹 파이프라인으로 처리
+     *
+     * userservice 사용자 등록/갱신은 로그인 이벤트로 아웃박스에 넣고 응답을 기다리지 않는다 (LoginEventRelay 가 전달).
+     */
+    private Mono<ResponseEntity<LoginResponse>> authenticate(OAuthProvider provider,
+                                                             String endpoint,
+                                                             LoginRequest request,
+                                                             Mono<PendingAuthorization> pendingAuthorization) {
+        return pendingAuthorization
+                .flatMap(pending -> provider.login(request.code(), request.state(), pending.codeVerifier()))
+                .flatMap(profile -> refreshTokenService.issue(profile.subject(), provider.id())
+                        .map(grant -> {
+                            loginEvents.publish(profile);
+                            
+                            String accessToken = jwtIssuer.issue(profile.subject(), provider.id()).token();
+                            String refreshToken = grant.refreshToken();
+                            
+                            requestLog.log(endpoint, "login.succeeded", "accessToken", accessToken, "refreshToken", refreshToken);
+                            loginMetrics.succeeded(provider.id());
+                            
+                            LoginResponse response = new LoginResponse(
+                                    true,
+                                    provider.displayName() + " 로그인 성공",
+                                    accessToken,
+                                    refreshToken,
+                                    profile
+                            );
+                            
+                            return ResponseEntity.status(HttpStatus.OK).body(response);
+                        }))
+                .onErrorResume(InvalidStateException.class, e -> {
+                    logFailure(endpoint, "login.rejected", e);
+                    loginMetrics.rejected(provider.id());
+                    
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new LoginResponse(
+                            false,
+                            "유효하지 않은 로그인 요청입니다",
+                            null,
+                            null,
+                            null
+                    )));
+                })
+                .onErrorResume(ProviderUnavailableException.class, e -> {
+                    logFailure(endpoint, "login.unavailable", e);
+                    loginMetrics.unavailable(provider.id());
+                    
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new LoginResponse(
+                            false,
+                            e.getMessage(),
+                            null,
+                            null,
+                            null
+                    )));
+                })
+                .onErrorResume(e -> {
+                    logFailure(endpoint, "login.failed", e);
+                    loginMetrics.failed(provider.id());
+                    
+                    return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new LoginResponse(
+                            false,
+                            provider.displayName() + " 로그인 실패",
+                            null,
+                            null,
+                            request
+                    )));
+                });
+    }
+    
+    /**
+     * 실패 로그에는 예외 클래스와 제공자 HTTP 상태만 남긴다.
+     * WebClient 오류 메시지에는 요청 URI 가 들어 있어 GET 토큰 요청(네이버)이면 client_secret·code 가 함께 찍힌다
+     */
+    private void logFailure(String endpoint, String event, Throwable error) {
+        Throwable cause = error;
+        while (!(cause instanceof WebClientResponseException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof WebClientResponseException response) {
+            requestLog.log(endpoint, event, "error", cause.getClass().getSimpleName(),
+                    "status", response.getStatusCode().value());
+        } else {
+            requestLog.log(endpoint, event, "error", cause.getClass().getSimpleName());
+        }
+    }
+    
+    private OAuthProvider require(String provider) {
+        return providers.find(provider)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "지원하지 않는 로그인 제공자: " + provider));
+    }
+    
+    private LogEndpoints endpoints(OAuthProvider provider) {
+        return logEndpoints.computeIfAbsent(provider.id(), id -> new LogEndpoints(
+                id + "-auth-url",
+                id + "-login",
+                id + "-callback"
+        ));
+    }
+    
+    private record LogEndpoints(
+        String authUrl,
+        String login,
+        String callback
+    ) {
+    }
+}
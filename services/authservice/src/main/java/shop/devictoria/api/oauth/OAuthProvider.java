@@ -0,0 +1,68 @@
+package shop.devictoria.api.oauth;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * OAuth 제공자 SPI
+ *
+ * 설정(oauth.providers + {provider}.*)만으로 추가되는 제공자는 {@link ConfiguredOAuthProvider} 가 구현하고,
+ * 설정으로 표현할 수 없는 제공자는 이 인터페이스를 구현한 빈을 등록하면 같은 라우터에 붙는다.
+ */
+public interface OAuthProvider {
+
+    /**
+     * URL 경로에 쓰이는 제공자 ID (/api/auth/{id}/...)
+     */
+    String id();
+
+    /**
+     * 응답 메시지에 쓰이는 표시 이름
+     */
+    String displayName();
+
+    String redirectUri();
+
+    /**
+     * PKCE(S256) 사용 여부
+     */
+    boolean pkce();
+
+    /**
+     * 제공자 로그인 화면 URL
+     *
+     * @param codeChallenge PKCE 미사용 시 null
+     */
+    String authUrl(String state, String codeChallenge);
+
+    /**
+     * 인가 코드 → 제공자 토큰 교환
+     *
+     * @param state        검증을 마친 state (모르면 null)
+     * @param codeVerifier PKCE 미사용 시 null
+     */
+    Mono<OAuthToken> exchangeCode(String code, String state, String codeVerifier);
+
+    /**
+     * 제공자 액세스 토큰으로 사용자 프로필 조회
+     *
+     * @param expiresIn 토큰 만료까지 남은 초 (모르면 null)
+     */
+    Mono<OAuthUserProfile> fetchUserProfile(String accessToken, Integer expiresIn);
+
+    /**
+     * 제공자 액세스 토큰이 이 서비스(client-id)에 발급된 것인지 확인한다.
+     * 다른 앱이 받은 토큰도 사용자 정보 조회는 통과하므로 토큰 인트로스펙션은 이 결과만 믿는다.
+     * 발급 대상을 확인할 수 없거나 다르면 empty, 제공자가 토큰을 거절하면 에러
+     */
+    default Mono<VerifiedProviderToken> verifyAccessToken(String accessToken) {
+        return Mono.empty();
+    }
+
+    /**
+     * 토큰 교환 후 프로필까지 조회하는 로그인 파이프라인
+     */
+    default Mono<OAuthUserProfile> login(String code, String state, String codeVerifier) {
+        return exchangeCode(code, state, codeVerifier)
+                .flatMap(token -> fetchUserProfile(token.accessToken(), token.expiresIn()));
+    }
+}
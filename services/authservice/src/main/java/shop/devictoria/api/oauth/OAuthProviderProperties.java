@@ -0,0 +1,65 @@
+package shop.devictoria.api.oauth;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 설정 기반 제공자 정의 ({provider}.*)
+ *
+ * @param tokenRequestMethod          POST(폼 바디) 또는 GET(쿼리 파라미터)
+ * @param pkce                        PKCE(S256) 사용 여부
+ * @param includeStateInTokenRequest  토큰 요청에도 state 를 보내야 하는 제공자(네이버)
+ * @param authParams                  인증 URL 에 고정으로 붙일 추가 파라미터
+ * @param tokenParams                 토큰 요청에 고정으로 붙일 추가 파라미터
+ * @param userInfo                    사용자 정보 응답 → 공통 프로필 필드 매핑 (점으로 구분한 경로)
+ * @param tokenInfo                   액세스 토큰 발급 대상 확인 API (없으면 제공자 토큰 인트로스펙션은 항상 비활성)
+ */
+public record OAuthProviderProperties(
+    String displayName,
+    String clientId,
+    @DefaultValue("") String clientSecret,
+    String redirectUri,
+    String frontCallbackUrl,
+    String authUri,
+    String tokenUri,
+    @DefaultValue("POST") String tokenRequestMethod,
+    @DefaultValue("false") boolean pkce,
+    @DefaultValue("false") boolean includeStateInTokenRequest,
+    String userInfoUri,
+    String scope,
+    @DefaultValue Map<String, String> authParams,
+    @DefaultValue Map<String, String> tokenParams,
+    @DefaultValue UserInfoMapping userInfo,
+    TokenInfo tokenInfo
+) {
+
+    public record UserInfoMapping(
+        @DefaultValue("id") String id,
+        String nickname,
+        String email,
+        String profileImage
+    ) {
+    }
+
+    /**
+     * 토큰 정보 API. 사용자 정보 API 는 다른 앱에 발급된 토큰도 받아 주므로, 발급 대상(앱)을 확인할 수 있는 API 가 따로 필요하다
+     *
+     * @param uri            토큰 정보 URI
+     * @param tokenParam     토큰을 POST 폼으로 보낼 파라미터 이름 (비우면 GET + Authorization: Bearer 헤더)
+     * @param audiencePaths  발급 대상이 들어 있는 응답 경로. 응답에 있는 경로는 모두 audience 와 같아야 하고 하나 이상 있어야 한다
+     * @param audience       기대하는 발급 대상 (없으면 client-id, 빈 값이면 확인할 수 없음으로 보고 모두 거절)
+     * @param subjectPath    제공자 사용자 id 경로 (사용자 정보 응답의 id 와 같은 값)
+     * @param expiresInPath  토큰 만료까지 남은 초 경로
+     */
+    public record TokenInfo(
+        String uri,
+        String tokenParam,
+        List<String> audiencePaths,
+        String audience,
+        @DefaultValue("id") String subjectPath,
+        @DefaultValue("expires_in") String expiresInPath
+    ) {
+    }
+}
@@ -0,0 +1,56 @@
+package shop.devictoria.api.oauth;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import shop.devictoria.api.http.OAuthWebClients;
+import shop.devictoria.api.resilience.ProviderGuards;
+
+/**
+ * 활성화된 OAuth 제공자 목록
+ *
+ * oauth.providers 에 나열된 ID 마다 {id}.* 설정으로 {@link ConfiguredOAuthProvider} 를 만들고,
+ * 같은 ID 의 {@link OAuthProvider} 빈이 있으면 그 빈을 우선한다.
+ */
+@Component
+public class OAuthProviderRegistry {
+
+    private final Map<String, OAuthProvider> providers;
+
+    public OAuthProviderRegistry(Environment environment,
+                                 OAuthWebClients webClients,
+                                 UserInfoCache userInfoCache,
+                                 ProviderGuards guards,
+                                 ObjectProvider<OAuthProvider> customProviders,
+                                 @Value("${oauth.providers}") List<String> providerIds) {
+        Binder binder = Binder.get(environment);
+        Map<String, OAuthProvider> registered = new LinkedHashMap<>();
+
+        for (String id : providerIds) {
+            OAuthProviderProperties properties = binder.bind(id, OAuthProviderProperties.class)
+                    .orElseThrow(() -> new IllegalStateException("OAuth 제공자 설정이 없습니다: " + id));
+            String displayName = properties.displayName() != null ? properties.displayName() : id;
+            registered.put(id, new ConfiguredOAuthProvider(id, properties, webClients.get(id), userInfoCache,
+                    guards.get(id, displayName)));
+        }
+        customProviders.orderedStream().forEach(provider -> registered.put(provider.id(), provider));
+
+        this.providers = Map.copyOf(registered);
+    }
+
+    public Optional<OAuthProvider> find(String id) {
+        return Optional.ofNullable(providers.get(id));
+    }
+
+    public Map<String, OAuthProvider> all() {
+        return providers;
+    }
+}
@@ -1,10 +1,9 @@
-package shop.devictoria.api.kakao;
+package shop.devictoria.api.oauth;
 
-public record KakaoTokenResponse(
+public record OAuthToken(
     String accessToken,
     String refreshToken,
     String tokenType,
     Integer expiresIn
 ) {
 }
-
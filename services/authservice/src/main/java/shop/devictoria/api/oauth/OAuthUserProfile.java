@@ -0,0 +1,20 @@
+package shop.devictoria.api.oauth;
+
+/**
+ * 제공자 공통 사용자 프로필
+ */
+public record OAuthUserProfile(
+    String provider,
+    String id,
+    String nickname,
+    String email,
+    String profileImage
+) {
+
+    /**
+     * 액세스 토큰 subject ("{provider}:{providerUserId}")
+     */
+    public String subject() {
+        return provider + ":" + id;
+    }
+}
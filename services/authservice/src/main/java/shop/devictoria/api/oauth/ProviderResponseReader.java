@@ -0,0 +1,223 @@
+package shop.devictoria.api.oauth;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 제공자 토큰/사용자 정보 응답을 JSON 토큰 스트림에서 바로 레코드로 읽는다
+ *
+ * 응답 전체를 Map 트리로 만들지 않고 필요한 필드만 꺼내며, 나머지 값은 하위 구조째 건너뛴다.
+ * 사용자 정보는 설정의 점 경로(UserInfoMapping)를 트리로 묶어 두고 그 경로로 들어가는 객체만 따라 내려간다.
+ * 토큰 정보 응답도 같은 방식으로 발급 대상·사용자 id·만료 경로만 읽는다.
+ * 숫자 id 같은 스칼라 값은 응답에 적힌 그대로의 텍스트로 읽는다.
+ */
+final class ProviderResponseReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final int ID = 0;
+
+    private static final int NICKNAME = 1;
+
+    private static final int EMAIL = 2;
+
+    private static final int PROFILE_IMAGE = 3;
+
+    private static final int TOKEN_INFO_SUBJECT = 0;
+
+    private static final int TOKEN_INFO_EXPIRES_IN = 1;
+
+    private static final int TOKEN_INFO_AUDIENCE = 2;
+
+    private final String provider;
+
+    private final PathNode userInfoPaths = new PathNode();
+
+    private final PathNode tokenInfoPaths = new PathNode();
+
+    /**
+     * 토큰 정보 값 배열 크기. 0 = 사용자 id, 1 = 만료, 2.. = 발급 대상 경로 순서
+     */
+    private final int tokenInfoFields;
+
+    /**
+     * @param tokenInfo 토큰 정보 API 설정 (없으면 null)
+     */
+    ProviderResponseReader(String provider, OAuthProviderProperties.UserInfoMapping mapping,
+                           OAuthProviderProperties.TokenInfo tokenInfo) {
+        this.provider = provider;
+        userInfoPaths.add(mapping.id(), ID);
+        userInfoPaths.add(mapping.nickname(), NICKNAME);
+        userInfoPaths.add(mapping.email(), EMAIL);
+        userInfoPaths.add(mapping.profileImage(), PROFILE_IMAGE);
+
+        List<String> audiencePaths = tokenInfo != null && tokenInfo.audiencePaths() != null
+                ? tokenInfo.audiencePaths() : List.of();
+        if (tokenInfo != null) {
+            tokenInfoPaths.add(tokenInfo.subjectPath(), TOKEN_INFO_SUBJECT);
+            tokenInfoPaths.add(tokenInfo.expiresInPath(), TOKEN_INFO_EXPIRES_IN);
+        }
+        for (int i = 0; i < audiencePaths.size(); i++) {
+            tokenInfoPaths.add(audiencePaths.get(i), TOKEN_INFO_AUDIENCE + i);
+        }
+        this.tokenInfoFields = TOKEN_INFO_AUDIENCE + audiencePaths.size();
+    }
+
+    /**
+     * 토큰 응답. 버퍼는 읽은 뒤 해제한다
+     */
+    OAuthToken readToken(DataBuffer body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body.asInputStream(true))) {
+            return readToken(parser);
+        }
+    }
+
+    /**
+     * 사용자 정보 응답. 버퍼는 읽은 뒤 해제한다
+     */
+    OAuthUserProfile readUserProfile(DataBuffer body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body.asInputStream(true))) {
+            return readUserProfile(parser);
+        }
+    }
+
+    /**
+     * 토큰 정보 응답. 버퍼는 읽은 뒤 해제한다
+     */
+    TokenInfoResponse readTokenInfo(DataBuffer body) throws IOException {
+        try (JsonParser parser = JSON.createParser(body.asInputStream(true))) {
+            requireObject(parser);
+            String[] values = new String[tokenInfoFields];
+            readObject(parser, tokenInfoPaths, values);
+            List<String> audiences = new ArrayList<>(values.length - TOKEN_INFO_AUDIENCE);
+            for (int i = TOKEN_INFO_AUDIENCE; i < values.length; i++) {
+                if (values[i] != null) {
+                    audiences.add(values[i]);
+                }
+            }
+            String expiresIn = values[TOKEN_INFO_EXPIRES_IN];
+            return new TokenInfoResponse(values[TOKEN_INFO_SUBJECT], audiences,
+                    expiresIn != null && !expiresIn.isEmpty() ? Long.valueOf(expiresIn) : null);
+        }
+    }
+
+    /**
+     * access_token 이 없으면(오류 응답 등) accessToken 이 null 인 토큰
+     */
+    private OAuthToken readToken(JsonParser parser) throws IOException {
+        requireObject(parser);
+        String accessToken = null;
+        String refreshToken = null;
+        String tokenType = null;
+        Integer expiresIn = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (name) {
+                case "access_token" -> accessToken = parser.getValueAsString();
+                case "refresh_token" -> refreshToken = parser.getValueAsString();
+                case "token_type" -> tokenType = parser.getValueAsString();
+                case "expires_in" -> expiresIn = readInteger(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new OAuthToken(accessToken, refreshToken, tokenType, expiresIn);
+    }
+
+    private OAuthUserProfile readUserProfile(JsonParser parser) throws IOException {
+        requireObject(parser);
+        String[] values = new String[4];
+        readObject(parser, userInfoPaths, values);
+        return new OAuthUserProfile(provider, values[ID], values[NICKNAME], values[EMAIL], values[PROFILE_IMAGE]);
+    }
+
+    /**
+     * START_OBJECT 에 선 parser 에서 node 의 경로에 해당하는 값만 values 에 채운다
+     */
+    private static void readObject(JsonParser parser, PathNode node, String[] values) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.children.get(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+            } else if (value == JsonToken.START_OBJECT && !child.children.isEmpty()) {
+                readObject(parser, child, values);
+            } else if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                for (int field : child.fields) {
+                    values[field] = parser.getText();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 네이버처럼 expires_in 을 문자열로 내려주는 제공자도 허용
+     */
+    private static Integer readInteger(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isNumeric()) {
+            return parser.getIntValue();
+        }
+        if (value == JsonToken.VALUE_STRING && parser.getTextLength() > 0) {
+            return Integer.valueOf(parser.getText());
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static void requireObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "응답이 JSON 객체가 아닙니다");
+        }
+    }
+
+    /**
+     * 토큰 정보 응답에서 읽은 값
+     *
+     * @param audiences 응답에 있던 발급 대상 값들 (설정한 경로 중 응답에 없는 경로는 빠진다)
+     */
+    record TokenInfoResponse(
+        String subject,
+        List<String> audiences,
+        Long expiresIn
+    ) {
+    }
+
+    /**
+     * 점 경로 트리. fields 는 이 경로에서 끝나는 프로필 필드들
+     */
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+
+        private int[] fields = new int[0];
+
+        void add(String path, int field) {
+            if (path == null || path.isEmpty()) {
+                return;
+            }
+            PathNode node = this;
+            for (String key : path.split("\\.")) {
+                node = node.children.computeIfAbsent(key, k -> new PathNode());
+            }
+            node.fields = Arrays.copyOf(node.fields, node.fields.length + 1);
+            node.fields[node.fields.length - 1] = field;
+        }
+    }
+}
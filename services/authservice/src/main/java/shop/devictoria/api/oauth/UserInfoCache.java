@@ -0,0 +1,121 @@
+package shop.devictoria.api.oauth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자 사용자 프로필 캐시
+ *
+ * 키는 "제공자:SHA-256(액세스 토큰)" 이라 원본 토큰은 메모리에 남지 않는다.
+ * 항목 TTL 은 토큰의 expiresIn 을 따르되 max-ttl 로 상한을 둔다.
+ * 같은 키에 대한 동시 미스는 진행 중인 조회 하나를 함께 기다린다(single-flight).
+ */
+@Component
+public class UserInfoCache {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final AsyncCache<String, Entry> cache;
+
+    private final Duration defaultTtl;
+
+    private final Duration maxTtl;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter coalesced;
+
+    public UserInfoCache(MeterRegistry meterRegistry,
+                         @Value("${oauth.user-info-cache.max-size:100000}") long maxSize,
+                         @Value("${oauth.user-info-cache.default-ttl:5m}") Duration defaultTtl,
+                         @Value("${oauth.user-info-cache.max-ttl:1h}") Duration maxTtl) {
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, Entry entry) -> entry.ttl()))
+                .buildAsync();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 한 번만 조회해 채운다
+     *
+     * @param expiresIn 토큰 만료까지 남은 초 (모르면 null → default-ttl)
+     */
+    public Mono<OAuthUserProfile> get(String provider,
+                                         String accessToken,
+                                         Integer expiresIn,
+                                         Function<String, Mono<OAuthUserProfile>> loader) {
+        String key = provider + ":" + hash(accessToken);
+
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = cache.asMap().putIfAbsent(key, created);
+
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return Mono.fromFuture(existing, true).map(Entry::profile);
+        }
+
+        misses.increment();
+        Duration ttl = ttl(expiresIn);
+        // loader 가 바로 던진 예외도 created 를 실패시켜야 같은 키의 대기자가 영원히 기다리지 않는다
+        Mono.defer(() -> loader.apply(accessToken))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(provider + " 사용자 정보가 비어 있습니다")))
+                .subscribe(
+                        profile -> created.complete(new Entry(profile, ttl)),
+                        created::completeExceptionally);
+
+        return Mono.fromFuture(created, true).map(Entry::profile);
+    }
+
+    private Duration ttl(Integer expiresIn) {
+        if (expiresIn == null || expiresIn <= 0) {
+            return defaultTtl;
+        }
+        Duration ttl = Duration.ofSeconds(expiresIn);
+        return ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl;
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("oauth.user-info.cache")
+                .description("제공자 사용자 정보 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(
+        OAuthUserProfile profile,
+        Duration ttl
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package shop.devictoria.api.oauth;
+
+/**
+ * 이 서비스의 client-id(앱)에 발급된 것으로 확인된 제공자 액세스 토큰
+ *
+ * @param providerUserId 제공자 사용자 id
+ * @param expiresIn      만료까지 남은 초 (모르면 null)
+ */
+public record VerifiedProviderToken(
+    String providerUserId,
+    Long expiresIn
+) {
+}
@@ -0,0 +1,23 @@
+package shop.devictoria.api.resilience;
+
+/**
+ * 제공자 호출 종류 (oauth.provider.requests 의 operation 태그)
+ */
+public enum ProviderCall {
+
+    TOKEN("token"),
+
+    USER_INFO("user-info"),
+
+    TOKEN_INFO("token-info");
+
+    private final String tag;
+
+    ProviderCall(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
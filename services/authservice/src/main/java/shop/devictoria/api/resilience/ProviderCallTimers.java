@@ -0,0 +1,66 @@
+package shop.devictoria.api.resilience;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * 제공자 호출 지연 타이머 (oauth.provider.requests{provider,operation,outcome})
+ *
+ * 조합이 고정돼 있어 미리 모두 등록해 두고 호출마다 조회만 한다.
+ * 히스토그램 버킷은 management.metrics.distribution.* 설정을 따른다.
+ */
+class ProviderCallTimers {
+
+    enum Outcome {
+        SUCCESS, CLIENT_ERROR, ERROR, REJECTED
+    }
+
+    private final Map<ProviderCall, Map<Outcome, Timer>> timers = new EnumMap<>(ProviderCall.class);
+
+    ProviderCallTimers(String provider, MeterRegistry meterRegistry) {
+        for (ProviderCall call : ProviderCall.values()) {
+            Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Timer.builder("oauth.provider.requests")
+                        .description("OAuth 제공자 호출 지연 (시도 단위, 헤지 포함)")
+                        .tag("provider", provider)
+                        .tag("operation", call.tag())
+                        .tag("outcome", outcome.name())
+                        .register(meterRegistry));
+            }
+            timers.put(call, byOutcome);
+        }
+    }
+
+    /**
+     * 구독 시점부터 완료/실패까지 잰다. 헤지에서 진 시도처럼 취소된 호출은 기록하지 않는다
+     */
+    <T> Mono<T> record(ProviderCall call, Mono<T> mono) {
+        Map<Outcome, Timer> byOutcome = timers.get(call);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> byOutcome.get(Outcome.SUCCESS)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> byOutcome.get(outcome(e))
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Outcome outcome(Throwable e) {
+        if (e instanceof ProviderUnavailableException) {
+            return Outcome.REJECTED;
+        }
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return Outcome.CLIENT_ERROR;
+        }
+        return Outcome.ERROR;
+    }
+}
@@ -0,0 +1,92 @@
+package shop.devictoria.api.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import reactor.core.publisher.Mono;
+
+/**
+ * 한 OAuth 제공자로 나가는 호출의 보호막
+ *
+ * 벌크헤드가 제공자별 동시 호출 수를 묶어 한 제공자가 느려져도 이벤트 루프와 커넥션 풀을 다 차지하지 못하게 하고,
+ * 서킷 브레이커가 실패/지연이 쌓이면 제공자에 요청을 보내지 않고 바로 실패시킨다.
+ */
+public class ProviderGuard {
+
+    private final String displayName;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final Duration hedgeDelay;
+
+    private final Counter hedges;
+
+    private final ProviderCallTimers timers;
+
+    ProviderGuard(String displayName,
+                  CircuitBreaker circuitBreaker,
+                  Bulkhead bulkhead,
+                  Duration hedgeDelay,
+                  Counter hedges,
+                  ProviderCallTimers timers) {
+        this.displayName = displayName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.hedgeDelay = hedgeDelay;
+        this.hedges = hedges;
+        this.timers = timers;
+    }
+
+    /**
+     * 호출 한 번을 벌크헤드 → 서킷 브레이커 순으로 감싸고 지연을 기록한다 (거절된 호출은 outcome=REJECTED)
+     */
+    public <T> Mono<T> protect(ProviderCall kind, Mono<T> call) {
+        return timers.record(kind, call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> new ProviderUnavailableException(displayName + " 일시적으로 사용할 수 없습니다", e)));
+    }
+
+    /**
+     * 멱등 요청용 헤지: 첫 요청이 hedge-delay 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 쓴다.
+     * 헤지 전에 첫 요청이 실패하면 바로 실패하고(빠른 실패는 다시 보내지 않는다), 헤지 후에는 둘 다 실패해야 실패한다.
+     * 각 시도는 따로 보호되므로 벌크헤드가 차 있으면 헤지 요청은 거절되고 첫 요청만 기다린다.
+     */
+    public <T> Mono<T> hedged(ProviderCall kind, Supplier<Mono<T>> call) {
+        if (hedgeDelay.isZero()) {
+            return protect(kind, Mono.defer(call));
+        }
+
+        return Mono.defer(() -> {
+            AtomicInteger started = new AtomicInteger(1);
+            AtomicInteger failed = new AtomicInteger();
+
+            Mono<T> hedge = Mono.delay(hedgeDelay)
+                    .then(Mono.defer(() -> {
+                        started.incrementAndGet();
+                        hedges.increment();
+                        return attempt(kind, call, started, failed);
+                    }));
+            return Mono.firstWithSignal(attempt(kind, call, started, failed), hedge);
+        });
+    }
+
+    /**
+     * 시작된 시도가 모두 실패했을 때만 에러를 내보내고, 아직 다른 시도가 남아 있으면 그 결과를 기다린다
+     */
+    private <T> Mono<T> attempt(ProviderCall kind, Supplier<Mono<T>> call, AtomicInteger started, AtomicInteger failed) {
+        return protect(kind, Mono.defer(call))
+                .onErrorResume(e -> failed.incrementAndGet() >= started.get() ? Mono.error(e) : Mono.never());
+    }
+}
@@ -0,0 +1,89 @@
+package shop.devictoria.api.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * OAuth 제공자별 {@link ProviderGuard} 팩토리
+ *
+ * 제공자마다 서킷 브레이커와 벌크헤드를 따로 두어 한 제공자의 장애가 다른 제공자 로그인으로 번지지 않게 한다.
+ * 상태와 호출 결과는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* 메트릭(name=제공자 ID)으로,
+ * 호출 지연은 oauth.provider.requests 히스토그램으로 노출된다.
+ */
+@Component
+public class ProviderGuards {
+
+    private final Environment environment;
+
+    private final MeterRegistry meterRegistry;
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+
+    private final Map<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+    public ProviderGuards(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    /**
+     * 제공자 전용 보호막 조회 (최초 호출 시 생성)
+     */
+    public ProviderGuard get(String provider, String displayName) {
+        return guards.computeIfAbsent(provider, id -> create(id, displayName));
+    }
+
+    private ProviderGuard create(String provider, String displayName) {
+        ProviderResilienceProperties properties = Binder.get(environment)
+                .bindOrCreate(provider + ".resilience", ProviderResilienceProperties.class);
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(provider, CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallDurationThreshold())
+                .slowCallRateThreshold(properties.slowCallRateThreshold())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 잘못된 인가 코드·만료된 토큰 같은 4xx 는 제공자 장애가 아니다
+                .recordException(e -> !(e instanceof WebClientResponseException response
+                        && response.getStatusCode().is4xxClientError()))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+
+        Bulkhead bulkhead = bulkheads.bulkhead(provider, BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.maxConcurrentCalls())
+                .build());
+
+        Counter hedges = Counter.builder("oauth.provider.hedged-requests")
+                .description("사용자 정보 조회 헤지 요청 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+
+        return new ProviderGuard(displayName, circuitBreaker, bulkhead, properties.hedgeDelay(), hedges,
+                new ProviderCallTimers(provider, meterRegistry));
+    }
+}
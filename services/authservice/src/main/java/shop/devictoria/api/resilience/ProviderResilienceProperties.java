@@ -0,0 +1,23 @@
+package shop.devictoria.api.resilience;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * OAuth 제공자별 서킷 브레이커/벌크헤드/헤지 설정 ({@code <provider>.resilience.*})
+ *
+ * @param hedgeDelay 멱등 GET(사용자 정보) 응답이 이 시간 안에 없으면 같은 요청을 한 번 더 보낸다. 0 이면 헤지하지 않는다
+ */
+public record ProviderResilienceProperties(
+    @DefaultValue("50") float failureRateThreshold,
+    @DefaultValue("3s") Duration slowCallDurationThreshold,
+    @DefaultValue("80") float slowCallRateThreshold,
+    @DefaultValue("50") int slidingWindowSize,
+    @DefaultValue("20") int minimumNumberOfCalls,
+    @DefaultValue("30s") Duration waitDurationInOpenState,
+    @DefaultValue("5") int permittedCallsInHalfOpenState,
+    @DefaultValue("100") int maxConcurrentCalls,
+    @DefaultValue("500ms") Duration hedgeDelay
+) {
+}
@@ -0,0 +1,11 @@
+package shop.devictoria.api.resilience;
+
+/**
+ * 서킷이 열렸거나 동시 호출 한도가 찼을 때. 제공자에 요청을 보내지 않고 바로 실패한다
+ */
+public class ProviderUnavailableException extends RuntimeException {
+
+    public ProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package shop.devictoria.api.state;
+
+/**
+ * 없거나 만료되었거나 다른 제공자용으로 발급된 state
+ */
+public class InvalidStateException extends RuntimeException {
+
+    public InvalidStateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package shop.devictoria.api.state;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * state 저장소 구성
+ *
+ * oauth.state.backend: memory(기본) | redis
+ * redis 백엔드는 -Predis 로 빌드해 spring-boot-starter-data-redis-reactive 가 jar 에 들어 있어야 하며,
+ * 없이 빌드한 jar 를 redis 로 설정하면 메모리 백엔드로 넘어가지 않고 기동을 멈춘다.
+ */
+@Configuration
+public class OAuthStateConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "oauth.state.backend", havingValue = "memory", matchIfMissing = true)
+    public TimingWheelStateStore timingWheelStateStore(@Value("${oauth.state.ttl:10m}") Duration ttl,
+                                                       @Value("${oauth.state.tick:1s}") Duration tick,
+                                                       @Value("${oauth.state.max-entries:1000000}") int maxEntries) {
+        int wheelSize = (int) Math.max(2, ttl.toMillis() / tick.toMillis() + 1);
+        return new TimingWheelStateStore(tick, wheelSize, maxEntries);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.ReactiveStringRedisTemplate")
+    @ConditionalOnProperty(name = "oauth.state.backend", havingValue = "redis")
+    static class RedisBackendConfig {
+
+        @Bean
+        public RedisStateStore redisStateStore(ReactiveStringRedisTemplate redisTemplate) {
+            return new RedisStateStore(redisTemplate);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnMissingClass("org.springframework.data.redis.core.ReactiveStringRedisTemplate")
+    @ConditionalOnProperty(name = "oauth.state.backend", havingValue = "redis")
+    static class MissingRedisConfig {
+
+        MissingRedisConfig() {
+            throw new IllegalStateException("oauth.state.backend=redis 는 -Predis 로 빌드한 jar 에서만 쓸 수 있습니다");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package shop.devictoria.api.state;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * OAuth state 발급/검증 + PKCE(S256) code_verifier 관리
+ */
+@Service
+public class OAuthStateService {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final OAuthStateStore store;
+
+    private final Duration ttl;
+
+    public OAuthStateService(OAuthStateStore store, @Value("${oauth.state.ttl:10m}") Duration ttl) {
+        this.store = store;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 새 로그인 시작: state (와 PKCE 사용 시 code_challenge) 발급
+     */
+    public Mono<AuthorizationRequest> begin(String provider, boolean pkce) {
+        String state = randomToken(16);
+        String codeVerifier = pkce ? randomToken(32) : null;
+
+        return store.save(state, new PendingAuthorization(provider, codeVerifier), ttl)
+                .thenReturn(new AuthorizationRequest(state, pkce ? challenge(codeVerifier) : null));
+    }
+
+    /**
+     * 콜백 검증: state 를 소비하고 발급 당시 정보를 돌려준다
+     */
+    public Mono<PendingAuthorization> complete(String provider, String state) {
+        if (state == null || state.isEmpty()) {
+            return Mono.error(new InvalidStateException("state 가 없습니다"));
+        }
+        return store.consume(state)
+                .switchIfEmpty(Mono.error(() -> new InvalidStateException("만료되었거나 이미 사용된 state 입니다")))
+                .filter(pending -> pending.provider().equals(provider))
+                .switchIfEmpty(Mono.error(() -> new InvalidStateException("다른 제공자용 state 입니다")));
+    }
+
+    private String randomToken(int bytes) {
+        byte[] buffer = new byte[bytes];
+        random.nextBytes(buffer);
+        return BASE64_URL.encodeToString(buffer);
+    }
+
+    private static String challenge(String codeVerifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.US_ASCII));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param codeChallenge PKCE 미사용 시 null
+     */
+    public record AuthorizationRequest(
+        String state,
+        String codeChallenge
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package shop.devictoria.api.state;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * OAuth state → 진행 정보 저장소
+ *
+ * 기본은 프로세스 내부 {@link TimingWheelStateStore} 이고, 콜백이 다른 레플리카로 갈 수 있는 환경에서는
+ * oauth.state.backend=redis 로 공유 저장소({@link RedisStateStore})를 쓴다.
+ */
+public interface OAuthStateStore {
+
+    /**
+     * 저장. 저장소가 가득 차면 {@link StateStoreFullException}
+     */
+    Mono<Void> save(String state, PendingAuthorization pending, Duration ttl);
+
+    /**
+     * 조회와 동시에 삭제 (한 번만 사용 가능). 없거나 만료되었으면 empty
+     */
+    Mono<PendingAuthorization> consume(String state);
+}
@@ -0,0 +1,12 @@
+package shop.devictoria.api.state;
+
+/**
+ * /auth-url 에서 발급하고 /callback 에서 소비하는 로그인 진행 정보
+ *
+ * @param codeVerifier PKCE 미사용 제공자는 null
+ */
+public record PendingAuthorization(
+    String provider,
+    String codeVerifier
+) {
+}
@@ -0,0 +1,44 @@
+package shop.devictoria.api.state;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis(또는 Redis 프로토콜 호환 로컬 대체 서버) 공유 state 저장소
+ *
+ * 만료는 Redis TTL 에 맡기고, 소비는 GETDEL 로 원자적으로 처리해 같은 state 를 두 번 쓸 수 없다.
+ */
+public class RedisStateStore implements OAuthStateStore {
+
+    private static final String KEY_PREFIX = "auth:oauth-state:";
+
+    private static final char SEPARATOR = '|';
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public RedisStateStore(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Mono<Void> save(String state, PendingAuthorization pending, Duration ttl) {
+        String value = pending.provider() + SEPARATOR + (pending.codeVerifier() != null ? pending.codeVerifier() : "");
+        return redisTemplate.opsForValue()
+                .set(KEY_PREFIX + state, value, ttl)
+                .then();
+    }
+
+    @Override
+    public Mono<PendingAuthorization> consume(String state) {
+        return redisTemplate.opsForValue()
+                .getAndDelete(KEY_PREFIX + state)
+                .map(value -> {
+                    int index = value.indexOf(SEPARATOR);
+                    String verifier = value.substring(index + 1);
+                    return new PendingAuthorization(value.substring(0, index), verifier.isEmpty() ? null : verifier);
+                });
+    }
+}
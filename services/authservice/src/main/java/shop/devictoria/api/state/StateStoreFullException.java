@@ -0,0 +1,11 @@
+package shop.devictoria.api.state;
+
+/**
+ * 진행 중인 로그인 수가 상한에 도달함
+ */
+public class StateStoreFullException extends RuntimeException {
+
+    public StateStoreFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,131 @@
+package shop.devictoria.api.state;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 해시드 타이밍 휠 기반 인메모리 state 저장소
+ *
+ * 항목마다 타이머를 두지 않고, 만료 시각이 속한 휠 슬롯에 키만 넣어 둔다.
+ * 틱마다 현재 슬롯 하나만 훑어 만료된 키를 지우므로 만료 처리 비용은 만료되는 항목 수에 비례한다.
+ * 휠을 한 바퀴 넘는 TTL 은 슬롯을 지날 때 다시 넣어 다음 바퀴로 미룬다.
+ * 틱 경계 때문에 슬롯 정리가 늦을 수 있어 consume 에서도 만료 시각을 다시 확인한다.
+ * 소비(consume)는 해시맵 remove 한 번이며, 항목 수는 max-entries 로 제한한다.
+ */
+public class TimingWheelStateStore implements OAuthStateStore, DisposableBean {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<String>[] wheel;
+
+    private final long tickMillis;
+
+    private final int maxEntries;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Disposable ticker;
+
+    private long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheelStateStore(Duration tick, int wheelSize, int maxEntries) {
+        this.tickMillis = tick.toMillis();
+        this.maxEntries = maxEntries;
+        this.wheel = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.processedTick = System.currentTimeMillis() / tickMillis;
+        this.ticker = Flux.interval(tick, tick, Schedulers.single())
+                .subscribe(t -> advance(System.currentTimeMillis()));
+    }
+
+    @Override
+    public Mono<Void> save(String state, PendingAuthorization pending, Duration ttl) {
+        if (size.incrementAndGet() > maxEntries) {
+            size.decrementAndGet();
+            return Mono.error(new StateStoreFullException("진행 중인 로그인이 너무 많습니다"));
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        entries.put(state, new Entry(pending, expiresAt));
+        slot(expiresAt / tickMillis).add(state);
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<PendingAuthorization> consume(String state) {
+        Entry entry = entries.remove(state);
+        if (entry == null) {
+            return Mono.empty();
+        }
+        size.decrementAndGet();
+        return entry.expiresAt() > System.currentTimeMillis() ? Mono.just(entry.pending()) : Mono.empty();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 마지막으로 처리한 틱부터 현재 틱까지의 슬롯을 비운다 (ticker 스레드 전용)
+     */
+    void advance(long nowMillis) {
+        long currentTick = nowMillis / tickMillis;
+        List<String> deferred = new ArrayList<>();
+
+        for (long tick = processedTick + 1; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<String> slot = slot(tick);
+            String state;
+            while ((state = slot.poll()) != null) {
+                Entry entry = entries.get(state);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.expiresAt() <= nowMillis) {
+                    if (entries.remove(state, entry)) {
+                        size.decrementAndGet();
+                    }
+                } else {
+                    deferred.add(state);
+                }
+            }
+            // 만료 틱이 이미 지난 슬롯에 걸리면 한 바퀴 뒤에야 다시 보므로 최소 다음 틱 슬롯에 넣는다
+            for (String key : deferred) {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    slot(Math.max(entry.expiresAt() / tickMillis, currentTick + 1)).add(key);
+                }
+            }
+            deferred.clear();
+        }
+        processedTick = currentTick;
+    }
+
+    private ConcurrentLinkedQueue<String> slot(long tick) {
+        return wheel[(int) (tick % wheel.length)];
+    }
+
+    @Override
+    public void destroy() {
+        ticker.dispose();
+    }
+
+    private record Entry(
+        PendingAuthorization pending,
+        long expiresAt
+    ) {
+    }
+}
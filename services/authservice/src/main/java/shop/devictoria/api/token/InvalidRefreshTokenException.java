@@ -0,0 +1,31 @@
+package shop.devictoria.api.token;
+
+/**
+ * 사용할 수 없는 리프레시 토큰
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private final Reason reason;
+
+    public InvalidRefreshTokenException(Reason reason) {
+        super(reason.message);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public enum Reason {
+        UNKNOWN("알 수 없는 리프레시 토큰"),
+        EXPIRED("만료된 리프레시 토큰"),
+        REVOKED("폐기된 리프레시 토큰"),
+        REUSED("이미 사용된 리프레시 토큰 (토큰 패밀리 전체 폐기)");
+
+        private final String message;
+
+        Reason(String message) {
+            this.message = message;
+        }
+    }
+}
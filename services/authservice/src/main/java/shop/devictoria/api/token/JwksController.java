@@ -0,0 +1,33 @@
+package shop.devictoria.api.token;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/auth")
+@Tag(name = "Token", description = "토큰 검증 키 API")
+public class JwksController {
+
+    private final JwtKeyManager keyManager;
+
+    public JwksController(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+    }
+
+    @GetMapping("/jwks")
+    @Operation(summary = "JWT 검증 공개키", description = "게이트웨이가 액세스 토큰 서명을 검증할 때 사용하는 JWKS를 반환합니다")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyManager.jwks());
+    }
+}
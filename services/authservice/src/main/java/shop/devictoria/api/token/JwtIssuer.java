@@ -0,0 +1,89 @@
+package shop.devictoria.api.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * RS256 서명 액세스 토큰 발급
+ */
+@Component
+public class JwtIssuer {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeyManager keyManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final String issuer;
+
+    private final Duration accessTokenTtl;
+
+    /**
+     * 헤더는 키가 바뀌지 않는 한 동일하므로 미리 인코딩해 둔다
+     */
+    private final String encodedHeader;
+
+    public JwtIssuer(JwtKeyManager keyManager,
+                     ObjectMapper objectMapper,
+                     @Value("${jwt.issuer}") String issuer,
+                     @Value("${jwt.access-token-ttl}") Duration accessTokenTtl) {
+        this.keyManager = keyManager;
+        this.objectMapper = objectMapper;
+        this.issuer = issuer;
+        this.accessTokenTtl = accessTokenTtl;
+        this.encodedHeader = BASE64_URL.encodeToString(
+                ("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + keyManager.keyId() + "\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 액세스 토큰 발급
+     *
+     * @param subject  "{provider}:{providerUserId}" 형식의 사용자 식별자
+     * @param provider 로그인한 OAuth 제공자
+     */
+    public IssuedToken issue(String subject, String provider) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + accessTokenTtl.toSeconds();
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", issuer);
+        claims.put("sub", subject);
+        claims.put("provider", provider);
+        claims.put("iat", issuedAt);
+        claims.put("exp", expiresAt);
+        claims.put("jti", UUID.randomUUID().toString());
+
+        try {
+            String signingInput = encodedHeader + "." + BASE64_URL.encodeToString(objectMapper.writeValueAsBytes(claims));
+
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyManager.privateKey());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+            String token = signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+            return new IssuedToken(token, accessTokenTtl.toSeconds());
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 발급 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public record IssuedToken(
+        String token,
+        long expiresIn
+    ) {
+    }
+}
@@ -0,0 +1,103 @@
+package shop.devictoria.api.token;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 관리
+ *
+ * jwt.private-key(PKCS#8, Base64)가 설정되면 모든 레플리카가 같은 키로 서명하고,
+ * 비어 있으면 기동 시 RSA 키를 생성한다(로컬 개발용).
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final RSAPrivateKey privateKey;
+
+    private final RSAPublicKey publicKey;
+
+    private final String keyId;
+
+    public JwtKeyManager(@Value("${jwt.private-key:}") String encodedPrivateKey) throws GeneralSecurityException {
+        KeyPair keyPair = encodedPrivateKey.isBlank() ? generate() : load(encodedPrivateKey);
+        this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        this.publicKey = (RSAPublicKey) keyPair.getPublic();
+        this.keyId = thumbprint(publicKey);
+    }
+
+    public RSAPrivateKey privateKey() {
+        return privateKey;
+    }
+
+    public String keyId() {
+        return keyId;
+    }
+
+    /**
+     * JWKS(RFC 7517) 형식의 공개키 목록
+     */
+    public Map<String, Object> jwks() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("n", encodeUnsigned(publicKey.getModulus()));
+        jwk.put("e", encodeUnsigned(publicKey.getPublicExponent()));
+        return Map.of("keys", List.of(jwk));
+    }
+
+    private static KeyPair generate() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair load(String encodedPrivateKey) throws GeneralSecurityException {
+        String base64 = encodedPrivateKey
+                .replaceAll("-----(BEGIN|END) PRIVATE KEY-----", "")
+                .replaceAll("\\s", "");
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(
+                new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    private static String thumbprint(RSAPublicKey publicKey) throws GeneralSecurityException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(publicKey.getModulus().toByteArray());
+        digest.update(publicKey.getPublicExponent().toByteArray());
+        byte[] hash = digest.digest();
+        return BASE64_URL.encodeToString(hash).substring(0, 16);
+    }
+
+    private static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            bytes = unsigned;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
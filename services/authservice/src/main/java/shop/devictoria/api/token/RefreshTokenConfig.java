@@ -0,0 +1,27 @@
+package shop.devictoria.api.token;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 리프레시 토큰 저장소 구성
+ *
+ * 세그먼트 디렉터리는 재기동 후에도 남아 있어야 하므로 컨테이너에서는 볼륨으로 마운트한다.
+ */
+@Configuration
+public class RefreshTokenConfig {
+
+    @Bean(destroyMethod = "close")
+    public RefreshTokenStore refreshTokenStore(@Value("${jwt.refresh-token-store.directory}") Path directory,
+                                               @Value("${jwt.refresh-token-store.segment-size:16MB}") DataSize segmentSize,
+                                               @Value("${jwt.refresh-token-store.compaction-threshold:4}") int compactionThreshold,
+                                               @Value("${jwt.refresh-token-store.fsync:false}") boolean fsync,
+                                               @Value("${jwt.refresh-token-ttl:14d}") Duration ttl) {
+        return new RefreshTokenStore(directory, (int) segmentSize.toBytes(), compactionThreshold, fsync, ttl);
+    }
+}
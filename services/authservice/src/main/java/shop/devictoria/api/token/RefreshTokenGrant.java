@@ -0,0 +1,14 @@
+package shop.devictoria.api.token;
+
+/**
+ * 발급된 리프레시 토큰과 소유자 정보
+ *
+ * @param expiresAt 만료 시각 (epoch millis)
+ */
+public record RefreshTokenGrant(
+    String refreshToken,
+    String subject,
+    String provider,
+    long expiresAt
+) {
+}
@@ -0,0 +1,66 @@
+package shop.devictoria.api.token;
+
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리프레시 토큰 발급/회전/폐기
+ *
+ * 저장소 쓰기는 mmap 페이지 폴트나 fsync 로 잠깐 막힐 수 있어 이벤트 루프 밖(boundedElastic)에서 실행한다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenStore store;
+
+    private final JwtIssuer jwtIssuer;
+
+    public RefreshTokenService(RefreshTokenStore store, JwtIssuer jwtIssuer) {
+        this.store = store;
+        this.jwtIssuer = jwtIssuer;
+    }
+
+    /**
+     * 로그인 성공 시 새 토큰 패밀리 시작
+     */
+    public Mono<RefreshTokenGrant> issue(String subject, String provider) {
+        return Mono.fromCallable(() -> store.issue(subject, provider))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 리프레시 토큰을 회전하고 새 액세스 토큰을 함께 발급
+     */
+    public Mono<TokenResponse> refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return Mono.error(new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.UNKNOWN));
+        }
+
+        return Mono.fromCallable(() -> store.rotate(refreshToken))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(grant -> {
+                    JwtIssuer.IssuedToken accessToken = jwtIssuer.issue(grant.subject(), grant.provider());
+                    return new TokenResponse(
+                            true,
+                            "토큰 재발급 성공",
+                            accessToken.token(),
+                            grant.refreshToken(),
+                            accessToken.expiresIn()
+                    );
+                });
+    }
+
+    /**
+     * 로그아웃: 토큰 패밀리 전체 폐기
+     */
+    public Mono<Void> revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Mono.<Void>fromRunnable(() -> store.revoke(refreshToken))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,553 @@
+package shop.devictoria.api.token;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 추가 전용(append-only) 세그먼트 로그 기반 리프레시 토큰 저장소
+ *
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 기록한다.
+ * 레코드는 mmap 한 세그먼트 파일 끝에 이어 쓰고, 조회는 메모리 해시 인덱스로만 한다.
+ * 기동 시 세그먼트를 순서대로 재생해 인덱스를 복구하며, CRC 가 맞지 않는 꼬리(쓰다 만 레코드)는 버린다.
+ * 세그먼트가 쌓이면 살아 있는 항목만 새 세그먼트로 옮겨 쓰고(compaction) 이전 세그먼트는 지운다.
+ * compaction 은 잠금 안에서 인덱스 스냅샷만 뜨고 새 세그먼트 파일은 잠금 밖에서 써서, 그동안에도 발급·회전이 멈추지 않는다.
+ *
+ * 같은 로그인에서 이어지는 토큰들은 하나의 패밀리로 묶인다.
+ * 이미 회전된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+ *
+ * 레코드 형식: [길이 4][CRC32C 4][타입 1][토큰 해시 32][패밀리 16][만료 8][subject 길이 2][subject][provider 길이 1][provider]
+ */
+public class RefreshTokenStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private static final byte ISSUED = 1;
+
+    private static final byte ROTATED = 2;
+
+    private static final byte FAMILY_REVOKED = 3;
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final int HASH_SIZE = 32;
+
+    private static final int MIN_RECORD_SIZE = HEADER_SIZE + 1 + HASH_SIZE + 16 + 8 + 2 + 1;
+
+    private static final int MAX_SUBJECT_SIZE = 0xFFFF;
+
+    private static final int MAX_PROVIDER_SIZE = 0xFF;
+
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final int compactionThreshold;
+
+    private final boolean fsync;
+
+    private final Duration ttl;
+
+    /**
+     * 토큰 해시(base64url) → 항목
+     */
+    private final ConcurrentHashMap<String, Entry> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * 폐기된 패밀리 → 기억해 둘 기한 (그 뒤로는 패밀리의 어떤 토큰도 이미 만료)
+     */
+    private final ConcurrentHashMap<UUID, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    private Segment active;
+
+    private long nextSegmentId = 1;
+
+    /**
+     * 마지막 compaction 직후 세그먼트 수. 살아 있는 데이터만으로 threshold 를 넘는 경우 매 롤마다 compaction 하지 않도록 기준으로 삼는다
+     */
+    private int compactedSegments;
+
+    private boolean compactionScheduled;
+
+    private boolean compacting;
+
+    public RefreshTokenStore(Path directory, int segmentSize, int compactionThreshold, boolean fsync, Duration ttl) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        this.fsync = fsync;
+        this.ttl = ttl;
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("리프레시 토큰 저장소를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 새 로그인: 새 패밀리의 첫 토큰 발급
+     */
+    public synchronized RefreshTokenGrant issue(String subject, String provider) {
+        return issueInFamily(UUID.randomUUID(), subject, provider);
+    }
+
+    /**
+     * 토큰 회전: 제시된 토큰을 사용 처리하고 같은 패밀리의 새 토큰을 발급
+     *
+     * @throws InvalidRefreshTokenException 알 수 없거나 만료·폐기·재사용된 토큰
+     */
+    public synchronized RefreshTokenGrant rotate(String refreshToken) {
+        byte[] hash = hash(refreshToken);
+        String key = BASE64_URL.encodeToString(hash);
+        Entry entry = tokens.get(key);
+        if (entry == null) {
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.UNKNOWN);
+        }
+
+        long now = System.currentTimeMillis();
+        if (isRevoked(entry.family(), now)) {
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.REVOKED);
+        }
+        if (entry.expiresAt() <= now) {
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.EXPIRED);
+        }
+        if (entry.rotated()) {
+            revokeFamily(entry.family(), now);
+            log.warn("리프레시 토큰 재사용 감지, 패밀리 폐기: subject={}, family={}", entry.subject(), entry.family());
+            throw new InvalidRefreshTokenException(InvalidRefreshTokenException.Reason.REUSED);
+        }
+
+        append(ROTATED, hash, entry.family(), entry.expiresAt(), NO_BYTES, NO_BYTES);
+        tokens.put(key, entry.asRotated());
+        return issueInFamily(entry.family(), entry.subject(), entry.provider());
+    }
+
+    /**
+     * 로그아웃: 토큰이 속한 패밀리 전체 폐기. 알 수 없는 토큰은 무시한다
+     */
+    public synchronized void revoke(String refreshToken) {
+        Entry entry = tokens.get(BASE64_URL.encodeToString(hash(refreshToken)));
+        long now = System.currentTimeMillis();
+        if (entry != null && !isRevoked(entry.family(), now)) {
+            revokeFamily(entry.family(), now);
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * 살아 있는 항목만 새 세그먼트로 옮겨 쓰고 이전 세그먼트를 지운다.
+     * 만료된 토큰과 폐기된 패밀리의 토큰은 인덱스에서도 함께 빠진다.
+     *
+     * 잠금 안에서 새 활성 세그먼트로 롤하고 스냅샷을 뜬 뒤, 스냅샷은 잠금 밖에서 롤 직전 id 의 세그먼트로 쓴다.
+     * 그동안의 발급·회전은 새 활성 세그먼트에 쌓이고, 재생 순서(id 순)가 스냅샷 → 이후 기록이 되어 결과가 같다.
+     * 임시 파일에 다 쓴 뒤 이름을 바꾸므로 도중에 죽으면 이전 세그먼트가 그대로 남는다.
+     */
+    public void compact() {
+        Path compacted;
+        List<Segment> obsolete;
+        List<Snapshot> snapshot;
+        synchronized (this) {
+            if (compacting) {
+                return;
+            }
+            // 옮겨 쓰는 도중의 롤이 compaction 을 다시 예약하지 않도록 막아 둔다
+            compacting = true;
+            compactionScheduled = true;
+            long now = System.currentTimeMillis();
+            obsolete = new ArrayList<>(segments);
+            compacted = directory.resolve(segmentName(nextSegmentId++));
+            roll(segmentSize);
+
+            revokedFamilies.values().removeIf(until -> until <= now);
+            snapshot = new ArrayList<>(tokens.size());
+            Iterator<Map.Entry<String, Entry>> it = tokens.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Entry> e = it.next();
+                Entry entry = e.getValue();
+                if (entry.expiresAt() <= now || revokedFamilies.containsKey(entry.family())) {
+                    it.remove();
+                    continue;
+                }
+                snapshot.add(new Snapshot(e.getKey(), entry));
+            }
+            // 폐기된 패밀리의 토큰은 모두 빠졌으므로 폐기 기록은 옮길 필요가 없다
+            revokedFamilies.clear();
+        }
+
+        Segment segment = null;
+        try {
+            segment = writeSnapshot(compacted, snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.error("리프레시 토큰 저장소 compaction 실패, 이전 세그먼트를 유지합니다", e);
+        }
+
+        synchronized (this) {
+            if (segment != null) {
+                for (Segment old : obsolete) {
+                    segments.remove(old);
+                    old.delete();
+                }
+                segments.addFirst(segment);
+            }
+            compactedSegments = segments.size();
+            compacting = false;
+            compactionScheduled = false;
+            log.info("리프레시 토큰 저장소 compaction 완료: tokens={}, segments={}", tokens.size(), segments.size());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.close(fsync);
+        }
+        segments.clear();
+        active = null;
+    }
+
+    private RefreshTokenGrant issueInFamily(UUID family, String subject, String provider) {
+        Entry entry = new Entry(family, subject, provider, System.currentTimeMillis() + ttl.toMillis(), false);
+        byte[] subjectBytes = entry.subjectBytes();
+        byte[] providerBytes = entry.providerBytes();
+        // 레코드 형식의 길이 필드(2바이트, 1바이트)에 들어가지 않으면 기록하기 전에 거절한다
+        if (subjectBytes.length > MAX_SUBJECT_SIZE || providerBytes.length > MAX_PROVIDER_SIZE) {
+            throw new IllegalArgumentException("subject 또는 provider 가 너무 깁니다");
+        }
+
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        String refreshToken = BASE64_URL.encodeToString(raw);
+        byte[] hash = hash(refreshToken);
+
+        append(ISSUED, hash, family, entry.expiresAt(), subjectBytes, providerBytes);
+        tokens.put(BASE64_URL.encodeToString(hash), entry);
+        return new RefreshTokenGrant(refreshToken, subject, provider, entry.expiresAt());
+    }
+
+    private void revokeFamily(UUID family, long now) {
+        long until = now + ttl.toMillis();
+        append(FAMILY_REVOKED, new byte[HASH_SIZE], family, until, NO_BYTES, NO_BYTES);
+        revokedFamilies.put(family, until);
+    }
+
+    private boolean isRevoked(UUID family, long now) {
+        Long until = revokedFamilies.get(family);
+        return until != null && until > now;
+    }
+
+    private void append(byte type, byte[] hash, UUID family, long expiresAt, byte[] subject, byte[] provider) {
+        int length = MIN_RECORD_SIZE + subject.length + provider.length;
+        if (active == null || active.buffer.remaining() < length) {
+            // 세그먼트 크기보다 큰 레코드는 그 레코드가 들어가는 크기로 세그먼트를 만든다
+            roll(Math.max(segmentSize, length));
+            scheduleCompactionIfNeeded();
+        }
+
+        MappedByteBuffer buffer = active.buffer;
+        int start = buffer.position();
+        write(buffer, type, hash, family, expiresAt, subject, provider);
+        if (fsync) {
+            buffer.force(start, length);
+        }
+    }
+
+    /**
+     * buffer 의 현재 위치에 레코드 하나를 쓰고 그 뒤로 위치를 옮긴다
+     */
+    private static void write(ByteBuffer buffer, byte type, byte[] hash, UUID family, long expiresAt,
+                              byte[] subject, byte[] provider) {
+        int length = MIN_RECORD_SIZE + subject.length + provider.length;
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.put(type)
+                .put(hash)
+                .putLong(family.getMostSignificantBits())
+                .putLong(family.getLeastSignificantBits())
+                .putLong(expiresAt)
+                .putShort((short) subject.length)
+                .put(subject)
+                .put((byte) provider.length)
+                .put(provider);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER_SIZE, length - HEADER_SIZE));
+        buffer.putInt(start + 4, (int) crc.getValue());
+        // 길이를 마지막에 써서, 재생 시 길이가 0 이면 그 뒤로는 쓰인 적 없는 영역으로 본다
+        buffer.putInt(start, length);
+    }
+
+    /**
+     * 스냅샷을 임시 파일에 쓰고 동기화한 뒤 세그먼트 이름으로 바꾼다
+     */
+    private Segment writeSnapshot(Path path, List<Snapshot> snapshot) throws IOException {
+        int size = 0;
+        for (Snapshot token : snapshot) {
+            int length = MIN_RECORD_SIZE + token.entry().subjectBytes().length + token.entry().providerBytes().length;
+            size += length + (token.entry().rotated() ? MIN_RECORD_SIZE : 0);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Snapshot token : snapshot) {
+            Entry entry = token.entry();
+            byte[] hash = Base64.getUrlDecoder().decode(token.key());
+            write(buffer, ISSUED, hash, entry.family(), entry.expiresAt(), entry.subjectBytes(), entry.providerBytes());
+            if (entry.rotated()) {
+                write(buffer, ROTATED, hash, entry.family(), entry.expiresAt(), NO_BYTES, NO_BYTES);
+            }
+        }
+        buffer.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        // 더 이어 쓰지 않는 세그먼트라 쓴 만큼만 매핑한다
+        return Segment.open(path, size);
+    }
+
+    private void roll(int size) {
+        if (active != null) {
+            active.close(fsync);
+        }
+        try {
+            active = Segment.open(directory.resolve(segmentName(nextSegmentId++)), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("리프레시 토큰 세그먼트를 만들 수 없습니다", e);
+        }
+        segments.addLast(active);
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (!compactionScheduled && segments.size() > compactedSegments + compactionThreshold) {
+            compactionScheduled = true;
+            Schedulers.boundedElastic().schedule(this::compact);
+        }
+    }
+
+    /**
+     * 세그먼트를 id 순으로 재생해 인덱스를 복구하고, 새 세그먼트를 열어 이어 쓴다
+     *
+     * 기존 세그먼트는 파일 크기만큼만 매핑한다. compaction 스냅샷처럼 꽉 찬 파일을 늘리거나 그 뒤에 쓰지 않는다
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .toList();
+        }
+        // compaction 도중 죽어 남은 임시 파일
+        try (Stream<Path> list = Files.list(directory)) {
+            for (Path temp : list.filter(p -> p.getFileName().toString().endsWith(".log.tmp")).toList()) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        for (Path file : files) {
+            Segment segment = Segment.open(file, (int) Files.size(file));
+            replay(segment);
+            segments.addLast(segment);
+            nextSegmentId = Math.max(nextSegmentId, segmentId(file) + 1);
+        }
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expiresAt() <= now);
+        revokedFamilies.values().removeIf(until -> until <= now);
+        compactedSegments = 1;
+        if (segments.size() > compactionThreshold) {
+            // compaction 이 새 활성 세그먼트를 연다
+            compact();
+        } else {
+            roll(segmentSize);
+        }
+        log.info("리프레시 토큰 저장소 복구: directory={}, tokens={}, segments={}", directory, tokens.size(), segments.size());
+    }
+
+    private void replay(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        while (buffer.remaining() >= MIN_RECORD_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (length == 0) {
+                return;
+            }
+            if (length < MIN_RECORD_SIZE || length > buffer.limit() - start || !checksumMatches(buffer, start, length)) {
+                log.warn("리프레시 토큰 세그먼트 {} 의 {} 위치부터 손상된 꼬리를 버립니다", segment.path.getFileName(), start);
+                truncate(buffer, start);
+                return;
+            }
+
+            buffer.position(start + HEADER_SIZE);
+            byte type = buffer.get();
+            byte[] hash = new byte[HASH_SIZE];
+            buffer.get(hash);
+            UUID family = new UUID(buffer.getLong(), buffer.getLong());
+            long expiresAt = buffer.getLong();
+            byte[] subject = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(subject);
+            byte[] provider = new byte[Byte.toUnsignedInt(buffer.get())];
+            buffer.get(provider);
+            buffer.position(start + length);
+
+            String key = BASE64_URL.encodeToString(hash);
+            switch (type) {
+                case ISSUED -> tokens.put(key, new Entry(family,
+                        new String(subject, StandardCharsets.UTF_8),
+                        new String(provider, StandardCharsets.UTF_8),
+                        expiresAt,
+                        false));
+                case ROTATED -> tokens.computeIfPresent(key, (k, entry) -> entry.asRotated());
+                case FAMILY_REVOKED -> revokedFamilies.merge(family, expiresAt, Math::max);
+                default -> log.warn("알 수 없는 리프레시 토큰 레코드 타입 {}", type);
+            }
+        }
+    }
+
+    private static boolean checksumMatches(MappedByteBuffer buffer, int start, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER_SIZE, length - HEADER_SIZE));
+        return (int) crc.getValue() == buffer.getInt(start + 4);
+    }
+
+    /**
+     * 쓰다 만 레코드 뒤를 0 으로 지워 다음 쓰기가 이어 붙어도 재생이 어긋나지 않게 한다
+     */
+    private static void truncate(MappedByteBuffer buffer, int start) {
+        for (int i = start; i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.position(start);
+    }
+
+    private static byte[] hash(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String segmentName(long id) {
+        return String.format("refresh-tokens-%016d.log", id);
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - ".log".length()));
+    }
+
+    private record Snapshot(
+        String key,
+        Entry entry
+    ) {
+    }
+
+    private record Entry(
+        UUID family,
+        String subject,
+        String provider,
+        long expiresAt,
+        boolean rotated
+    ) {
+
+        Entry asRotated() {
+            return new Entry(family, subject, provider, expiresAt, true);
+        }
+
+        byte[] subjectBytes() {
+            return subject.getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] providerBytes() {
+            return provider.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * mmap 한 세그먼트 파일 하나. 매핑은 GC 가 버퍼를 회수할 때 풀리며, 지운 파일의 공간도 그때 반환된다
+     */
+    private static final class Segment {
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        private final MappedByteBuffer buffer;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        void close(boolean force) {
+            try {
+                if (force) {
+                    buffer.force();
+                }
+                channel.close();
+            } catch (IOException e) {
+                log.warn("리프레시 토큰 세그먼트 닫기 실패: {}", path, e);
+            }
+        }
+
+        void delete() {
+            close(false);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("리프레시 토큰 세그먼트 삭제 실패: {}", path, e);
+            }
+        }
+    }
+}
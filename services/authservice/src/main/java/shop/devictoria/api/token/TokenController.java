@@ -0,0 +1,64 @@
+package shop.devictoria.api.token;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+import shop.devictoria.api.logging.RequestLog;
+
+@RestController
+@RequestMapping("/api/auth/token")
+@Tag(name = "Token", description = "토큰 재발급/폐기 API")
+public class TokenController {
+
+    private static final String REFRESH_ENDPOINT = "token-refresh";
+
+    private static final String REVOKE_ENDPOINT = "token-revoke";
+
+    private final RefreshTokenService refreshTokenService;
+
+    private final RequestLog requestLog;
+
+    public TokenController(RefreshTokenService refreshTokenService, RequestLog requestLog) {
+        this.refreshTokenService = refreshTokenService;
+        this.requestLog = requestLog;
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰을 회전하고 새 액세스 토큰을 발급합니다. 이미 사용된 리프레시 토큰이 다시 오면 같은 로그인의 모든 토큰이 폐기됩니다")
+    public Mono<ResponseEntity<TokenResponse>> refresh(@RequestBody TokenRefreshRequest request) {
+        requestLog.log(REFRESH_ENDPOINT, "refresh.requested", "refreshToken", request.refreshToken());
+
+        return refreshTokenService.refresh(request.refreshToken())
+                .map(response -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(response))
+                .onErrorResume(InvalidRefreshTokenException.class, e -> {
+                    requestLog.log(REFRESH_ENDPOINT, "refresh.rejected", "reason", e.reason().name());
+
+                    return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new TokenResponse(
+                            false,
+                            e.getMessage(),
+                            null,
+                            null,
+                            null
+                    )));
+                });
+    }
+
+    @PostMapping("/revoke")
+    @Operation(summary = "토큰 폐기", description = "로그아웃 시 리프레시 토큰과 같은 로그인에서 발급된 토큰을 모두 폐기합니다")
+    public Mono<ResponseEntity<Void>> revoke(@RequestBody TokenRefreshRequest request) {
+        requestLog.log(REVOKE_ENDPOINT, "revoke.requested", "refreshToken", request.refreshToken());
+
+        return refreshTokenService.revoke(request.refreshToken())
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+}
@@ -0,0 +1,6 @@
+package shop.devictoria.api.token;
+
+public record TokenRefreshRequest(
+    String refreshToken
+) {
+}
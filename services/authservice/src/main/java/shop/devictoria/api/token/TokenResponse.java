@@ -1,11 +1,10 @@
-package shop.devictoria.api.naver;
+package shop.devictoria.api.token;
 
-public record NaverLoginResponse(
+public record TokenResponse(
     boolean success,
     String message,
     String accessToken,
     String refreshToken,
-    Object userData
+    Long expiresIn
 ) {
 }
-
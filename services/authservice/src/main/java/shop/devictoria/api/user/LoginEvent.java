@@ -0,0 +1,35 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import shop.devictoria.api.oauth.OAuthUserProfile;
+
+/**
+ * 로그인 이벤트 (authservice → userservice, POST /internal/users/logins)
+ *
+ * @param eventId    로그 추적용 id
+ * @param loggedInAt userservice 는 계정의 마지막 로그인보다 오래된 이벤트를 이미 반영된 것으로 보고 건너뛴다
+ */
+public record LoginEvent(
+    UUID eventId,
+    String provider,
+    String providerUserId,
+    String nickname,
+    String email,
+    String profileImage,
+    Instant loggedInAt
+) {
+
+    public static LoginEvent of(OAuthUserProfile profile) {
+        return new LoginEvent(
+                UUID.randomUUID(),
+                profile.provider(),
+                profile.id(),
+                profile.nickname(),
+                profile.email(),
+                profile.profileImage(),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package shop.devictoria.api.user;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 로그인 이벤트 아웃박스 구성
+ *
+ * 보내지 못한 이벤트가 재기동 후에도 남아 있어야 하므로 컨테이너에서는 볼륨으로 마운트한다.
+ */
+@Configuration
+public class LoginEventConfig {
+
+    @Bean(destroyMethod = "close")
+    public LoginEventOutbox loginEventOutbox(@Value("${login-events.outbox.directory}") Path directory,
+                                             @Value("${login-events.outbox.queue-capacity:10000}") int queueCapacity,
+                                             @Value("${login-events.outbox.segment-size:16MB}") DataSize segmentSize,
+                                             @Value("${login-events.outbox.max-event-size:16KB}") DataSize maxEventSize,
+                                             @Value("${login-events.outbox.fsync:false}") boolean fsync) {
+        return new LoginEventOutbox(directory, queueCapacity, segmentSize.toBytes(), (int) maxEventSize.toBytes(), fsync);
+    }
+}
@@ -0,0 +1,482 @@
+package shop.devictoria.api.user;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 로그인 이벤트 아웃박스
+ *
+ * 로그인 요청 스레드는 직렬화한 이벤트를 크기 제한 큐에 넣기만 하고(가득 차면 버린다),
+ * 전용 스레드가 큐에 모인 만큼을 한 번의 쓰기로 추가 전용 세그먼트 파일 끝에 붙인다(group commit).
+ * 릴레이는 확인(acknowledge)된 위치부터 읽어 보내고, 확인 위치는 cursor 파일에 남겨 재기동 후 이어 보낸다.
+ * 확인 위치보다 앞선 세그먼트는 지운다.
+ * userservice 가 반영할 수 없다고 돌려준 이벤트는 parked 파일로 옮겨 두어 뒤따르는 이벤트를 막지 않는다.
+ *
+ * 레코드 형식: [길이 4][CRC32C 4][이벤트 JSON]
+ */
+public class LoginEventOutbox implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginEventOutbox.class);
+
+    private static final int HEADER_SIZE = 8;
+
+    private static final String CURSOR_FILE = "cursor";
+
+    /**
+     * 반영할 수 없는 이벤트 보관 파일 (세그먼트와 같은 레코드 형식, 확장자가 달라 복구 대상이 아니다)
+     */
+    private static final String PARKED_FILE = "parked.dat";
+
+    /**
+     * 한 번의 쓰기로 묶는 최대 이벤트 수
+     */
+    private static final int MAX_WRITE_BATCH = 1024;
+
+    private final Path directory;
+
+    private final long segmentSize;
+
+    private final int maxRecordSize;
+
+    private final boolean fsync;
+
+    private final BlockingQueue<byte[]> queue;
+
+    private final Thread writer;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    private Segment active;
+
+    private long nextSegmentId = 1;
+
+    /**
+     * 릴레이가 확인한 위치 (이 앞은 userservice 에 반영됨)
+     */
+    private long cursorSegment;
+
+    private long cursorOffset;
+
+    private volatile boolean running = true;
+
+    public LoginEventOutbox(Path directory, int queueCapacity, long segmentSize, int maxRecordSize, boolean fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxRecordSize = maxRecordSize;
+        this.fsync = fsync;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그인 이벤트 아웃박스를 열 수 없습니다: " + directory, e);
+        }
+
+        this.writer = Thread.ofPlatform().name("login-event-outbox").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * 큐에 넣기만 하고 바로 돌아온다
+     *
+     * @return 큐가 가득 차거나 너무 큰 이벤트라 버렸으면 false
+     */
+    public boolean offer(byte[] event) {
+        if (event.length > maxRecordSize || !queue.offer(event)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 확인 위치부터 최대 maxEvents 개. 한 번에 한 세그먼트 안에서만 읽는다
+     */
+    public synchronized Batch read(int maxEvents) {
+        while (true) {
+            Segment segment = segment(cursorSegment);
+            if (segment == null) {
+                return new Batch(List.of(), cursorSegment, cursorOffset);
+            }
+
+            List<byte[]> events = new ArrayList<>();
+            long offset = cursorOffset;
+            try {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                while (events.size() < maxEvents && offset + HEADER_SIZE <= segment.size) {
+                    header.clear();
+                    segment.channel.read(header, offset);
+                    int length = header.getInt(0);
+                    if (length <= 0 || length > maxRecordSize || offset + HEADER_SIZE + length > segment.size) {
+                        log.error("로그인 이벤트 세그먼트 {} 의 {} 위치 레코드가 손상되어 나머지를 건너뜁니다", segment.path.getFileName(), offset);
+                        offset = segment.size;
+                        break;
+                    }
+                    ByteBuffer payload = ByteBuffer.allocate(length);
+                    segment.channel.read(payload, offset + HEADER_SIZE);
+                    events.add(payload.array());
+                    offset += HEADER_SIZE + length;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("로그인 이벤트 세그먼트를 읽을 수 없습니다: " + segment.path, e);
+            }
+
+            // 다 읽은 지난 세그먼트는 넘어가고 지운다
+            if (events.isEmpty() && segment != active && offset >= segment.size) {
+                advance(segment.id + 1, 0);
+                continue;
+            }
+            return new Batch(events, segment.id, offset);
+        }
+    }
+
+    /**
+     * 배치가 userservice 에 반영됨. 다음 read 는 그 뒤부터 읽는다
+     */
+    public synchronized void acknowledge(Batch batch) {
+        if (!batch.events().isEmpty()) {
+            advance(batch.segment(), batch.endOffset());
+        }
+    }
+
+    /**
+     * 이벤트를 parked 파일 끝에 옮겨 적는다. 확인 위치는 그대로이므로 호출한 쪽이 이어서 acknowledge 한다
+     */
+    public synchronized void park(List<byte[]> events) {
+        ByteBuffer buffer = encode(events);
+        try (FileChannel channel = FileChannel.open(directory.resolve(PARKED_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그인 이벤트를 parked 파일에 쓸 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 아직 확인되지 않은 바이트 수 (큐에 남은 이벤트 제외)
+     */
+    public synchronized long backlogBytes() {
+        long backlog = 0;
+        for (Segment segment : segments) {
+            if (segment.id >= cursorSegment) {
+                backlog += segment.size - (segment.id == cursorSegment ? cursorOffset : 0);
+            }
+        }
+        return backlog;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * 쓰기 스레드를 멈추고 큐에 남은 이벤트까지 기록한 뒤 닫는다
+     *
+     * 쓰는 중에 인터럽트하면 FileChannel 이 닫히므로 플래그로만 멈춘다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<byte[]> remaining = new ArrayList<>();
+        synchronized (this) {
+            while (queue.drainTo(remaining, MAX_WRITE_BATCH) > 0) {
+                append(remaining);
+                remaining.clear();
+            }
+            for (Segment segment : segments) {
+                segment.close(fsync);
+            }
+            segments.clear();
+            active = null;
+        }
+    }
+
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>();
+        while (running) {
+            try {
+                byte[] first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_WRITE_BATCH - 1);
+                synchronized (this) {
+                    append(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                dropped.addAndGet(batch.size());
+                log.error("로그인 이벤트 {} 건 기록 실패", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void append(List<byte[]> events) {
+        ByteBuffer buffer = encode(events);
+        int total = buffer.remaining();
+        if (active == null || (active.size > 0 && active.size + total > segmentSize)) {
+            roll();
+        }
+
+        try {
+            while (buffer.hasRemaining()) {
+                active.channel.write(buffer, active.size + buffer.position());
+            }
+            if (fsync) {
+                active.channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그인 이벤트 세그먼트에 쓸 수 없습니다: " + active.path, e);
+        }
+        active.size += total;
+    }
+
+    private static ByteBuffer encode(List<byte[]> events) {
+        int total = 0;
+        for (byte[] event : events) {
+            total += HEADER_SIZE + event.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        CRC32C crc = new CRC32C();
+        for (byte[] event : events) {
+            crc.reset();
+            crc.update(event);
+            buffer.putInt(event.length).putInt((int) crc.getValue()).put(event);
+        }
+        return buffer.flip();
+    }
+
+    private void roll() {
+        if (active != null && fsync) {
+            try {
+                active.channel.force(false);
+            } catch (IOException e) {
+                log.warn("로그인 이벤트 세그먼트 동기화 실패: {}", active.path, e);
+            }
+        }
+        try {
+            active = Segment.open(nextSegmentId++, directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그인 이벤트 세그먼트를 만들 수 없습니다", e);
+        }
+        segments.addLast(active);
+    }
+
+    private Segment segment(long id) {
+        for (Segment segment : segments) {
+            if (segment.id == id) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 확인 위치를 옮겨 cursor 파일에 남기고, 그 앞의 세그먼트를 지운다
+     */
+    private void advance(long segment, long offset) {
+        cursorSegment = segment;
+        cursorOffset = offset;
+        writeCursor();
+
+        while (!segments.isEmpty() && segments.peekFirst().id < cursorSegment && segments.peekFirst() != active) {
+            segments.pollFirst().delete();
+        }
+    }
+
+    private void writeCursor() {
+        Path cursor = directory.resolve(CURSOR_FILE);
+        Path temp = directory.resolve(CURSOR_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(16).putLong(cursorSegment).putLong(cursorOffset).flip();
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(buffer);
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // 다음 확인 때 다시 쓴다. 재기동 전까지 못 쓰면 이미 보낸 이벤트가 다시 가지만 userservice 는 중복을 무시한다
+            log.warn("로그인 이벤트 cursor 기록 실패", e);
+            return;
+        }
+        try {
+            Files.move(temp, cursor, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("로그인 이벤트 cursor 교체 실패", e);
+        }
+    }
+
+    /**
+     * cursor 와 세그먼트를 읽어 확인 위치를 복구하고, 마지막 세그먼트의 쓰다 만 꼬리를 잘라낸다
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .toList();
+        }
+
+        Path cursor = directory.resolve(CURSOR_FILE);
+        if (Files.exists(cursor)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cursor));
+            cursorSegment = buffer.getLong();
+            cursorOffset = buffer.getLong();
+        }
+
+        for (Path file : files) {
+            long id = Segment.id(file);
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+            if (id < cursorSegment) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            segments.addLast(Segment.open(id, directory));
+        }
+
+        Segment last = segments.peekLast();
+        if (last != null) {
+            truncateTail(last);
+        }
+        if (segments.isEmpty() || segments.peekFirst().id > cursorSegment) {
+            // 보낼 것이 없거나 cursor 가 가리키던 세그먼트가 이미 지워졌으면 남은 첫 세그먼트 처음부터
+            cursorSegment = segments.isEmpty() ? nextSegmentId : segments.peekFirst().id;
+            cursorOffset = 0;
+        } else if (segments.peekFirst().id == cursorSegment) {
+            cursorOffset = Math.min(cursorOffset, segments.peekFirst().size);
+        }
+        active = last;
+        log.info("로그인 이벤트 아웃박스 복구: directory={}, segments={}, backlog={}B", directory, segments.size(), backlogBytes());
+    }
+
+    private void truncateTail(Segment segment) throws IOException {
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        CRC32C crc = new CRC32C();
+        while (offset + HEADER_SIZE <= segment.size) {
+            header.clear();
+            segment.channel.read(header, offset);
+            int length = header.getInt(0);
+            if (length <= 0 || length > maxRecordSize || offset + HEADER_SIZE + length > segment.size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            segment.channel.read(payload, offset + HEADER_SIZE);
+            crc.reset();
+            crc.update(payload.flip());
+            if ((int) crc.getValue() != header.getInt(4)) {
+                break;
+            }
+            offset += HEADER_SIZE + length;
+        }
+
+        if (offset < segment.size) {
+            log.warn("로그인 이벤트 세그먼트 {} 의 {} 위치부터 손상된 꼬리를 버립니다", segment.path.getFileName(), offset);
+            segment.channel.truncate(offset);
+            segment.size = offset;
+        }
+    }
+
+    /**
+     * @param segment   읽은 세그먼트 id
+     * @param endOffset 배치 마지막 레코드 다음 위치
+     */
+    public record Batch(
+        List<byte[]> events,
+        long segment,
+        long endOffset
+    ) {
+    }
+
+    private static final class Segment {
+
+        private final long id;
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        private long size;
+
+        private Segment(long id, Path path, FileChannel channel, long size) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+        }
+
+        static Segment open(long id, Path directory) throws IOException {
+            Path path = directory.resolve(String.format("login-events-%016d.log", id));
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.size());
+        }
+
+        static long id(Path file) {
+            String name = file.getFileName().toString();
+            return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - ".log".length()));
+        }
+
+        void close(boolean force) {
+            try {
+                if (force) {
+                    channel.force(false);
+                }
+                channel.close();
+            } catch (IOException e) {
+                log.warn("로그인 이벤트 세그먼트 닫기 실패: {}", path, e);
+            }
+        }
+
+        void delete() {
+            close(false);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("로그인 이벤트 세그먼트 삭제 실패: {}", path, e);
+            }
+        }
+    }
+}
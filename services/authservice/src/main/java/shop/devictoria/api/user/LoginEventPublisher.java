@@ -0,0 +1,65 @@
+package shop.devictoria.api.user;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import shop.devictoria.api.oauth.OAuthUserProfile;
+
+/**
+ * 로그인한 소셜 계정을 userservice 에 알리는 이벤트 발행 (login.events.published{result})
+ *
+ * 아웃박스 큐에 넣기만 하므로 로그인 응답은 userservice 상태와 무관하다.
+ * 큐가 가득 차 버린 이벤트는 같은 계정의 다음 로그인 때 다시 반영된다.
+ */
+@Component
+public class LoginEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginEventPublisher.class);
+
+    private final LoginEventOutbox outbox;
+
+    private final ObjectWriter eventWriter;
+
+    private final Counter queued;
+
+    private final Counter dropped;
+
+    public LoginEventPublisher(LoginEventOutbox outbox, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.eventWriter = objectMapper.writerFor(LoginEvent.class);
+        this.queued = counter(meterRegistry, "queued");
+        this.dropped = counter(meterRegistry, "dropped");
+    }
+
+    public void publish(OAuthUserProfile profile) {
+        byte[] event;
+        try {
+            event = eventWriter.writeValueAsBytes(LoginEvent.of(profile));
+        } catch (JsonProcessingException e) {
+            dropped.increment();
+            log.warn("로그인 이벤트 직렬화 실패: subject={}", profile.subject(), e);
+            return;
+        }
+
+        if (outbox.offer(event)) {
+            queued.increment();
+        } else {
+            dropped.increment();
+            log.warn("로그인 이벤트 아웃박스가 가득 차 버립니다: subject={}", profile.subject());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("login.events.published")
+                .description("로그인 이벤트 아웃박스 적재 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,199 @@
+package shop.devictoria.api.user;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 아웃박스의 로그인 이벤트를 userservice 에 마이크로 배치로 전달 (login.events.relayed{result}, login.events.backlog)
+ *
+ * interval 마다 확인 위치부터 batch-size 개씩 읽어 보내고, 배치가 가득 차 있으면 밀린 만큼 이어서 보낸다.
+ * 실패하면 같은 배치를 max-backoff 까지 늘어나는 간격으로 다시 보낸다 (userservice 는 중복 반영을 무시한다).
+ * 반영할 수 없는 이벤트는 이벤트 단위로 골라 아웃박스의 parked 파일로 옮기고 나머지만 확인해, 한 건이 뒤를 막지 않게 한다.
+ * userservice 가 응답의 rejected 로 알려 주고, 배치 전체가 400/413/422 로 거절되면 반씩 나눠 다시 보내 거절되는 이벤트만 남긴다.
+ */
+@Component
+public class LoginEventRelay implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginEventRelay.class);
+
+    /**
+     * 요청 본문 자체를 받아들이지 않는 응답. 다시 보내도 같으므로 이벤트를 골라내 parked 로 옮긴다
+     */
+    private static final Set<Integer> REJECTED_STATUSES = Set.of(400, 413, 422);
+
+    private final LoginEventOutbox outbox;
+
+    private final UserServiceClient userServiceClient;
+
+    private final int batchSize;
+
+    private final Duration interval;
+
+    private final Duration maxBackoff;
+
+    private final Counter applied;
+
+    private final Counter rejected;
+
+    private Disposable relayTask;
+
+    private volatile boolean running;
+
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * 연속 실패 동안 늘어나는 재시도 간격. relayTask 안에서만 바뀐다
+     */
+    private Duration backoff = Duration.ZERO;
+
+    private long retryAt;
+
+    public LoginEventRelay(LoginEventOutbox outbox,
+                           UserServiceClient userServiceClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${login-events.relay.batch-size:500}") int batchSize,
+                           @Value("${login-events.relay.interval:200ms}") Duration interval,
+                           @Value("${login-events.relay.max-backoff:30s}") Duration maxBackoff) {
+        this.outbox = outbox;
+        this.userServiceClient = userServiceClient;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.maxBackoff = maxBackoff;
+        this.applied = counter(meterRegistry, "applied");
+        this.rejected = counter(meterRegistry, "rejected");
+
+        Gauge.builder("login.events.backlog", outbox, LoginEventOutbox::backlogBytes)
+                .description("userservice 에 아직 전달하지 못한 로그인 이벤트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        relayTask = Flux.interval(interval)
+                .takeWhile(tick -> running)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain(), 1)
+                .doFinally(signal -> stopped.countDown())
+                .subscribe();
+    }
+
+    /**
+     * 진행 중인 배치를 마친 뒤 멈춘다
+     *
+     * dispose 는 아웃박스 파일을 읽고 쓰는 boundedElastic 스레드를 인터럽트해 아웃박스의 FileChannel 을 닫아 버리므로,
+     * 플래그로 멈추고 5초 안에 끝나지 않을 때만 dispose 한다.
+     */
+    @Override
+    public void destroy() {
+        if (relayTask == null) {
+            return;
+        }
+        running = false;
+        try {
+            if (!stopped.await(5, TimeUnit.SECONDS)) {
+                relayTask.dispose();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            relayTask.dispose();
+        }
+    }
+
+    private Mono<Void> drain() {
+        if (!running || System.currentTimeMillis() < retryAt) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> outbox.read(batchSize))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(batch -> batch.events().isEmpty() ? Mono.empty() : send(batch))
+                .onErrorResume(e -> {
+                    backoff = backoff.isZero() ? interval : min(backoff.multipliedBy(2), maxBackoff);
+                    retryAt = System.currentTimeMillis() + backoff.toMillis();
+                    log.warn("로그인 이벤트 전달 실패, {} 후 재시도: {}", backoff, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> send(LoginEventOutbox.Batch batch) {
+        return deliver(batch.events())
+                .flatMap(rejectedEvents -> Mono.fromRunnable(() -> {
+                    if (!rejectedEvents.isEmpty()) {
+                        outbox.park(rejectedEvents);
+                        rejected.increment(rejectedEvents.size());
+                        log.error("userservice 가 반영할 수 없는 로그인 이벤트 {} 건을 parked 로 옮깁니다", rejectedEvents.size());
+                    }
+                    applied.increment(batch.events().size() - rejectedEvents.size());
+                    outbox.acknowledge(batch);
+                    backoff = Duration.ZERO;
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .then(Mono.defer(() -> batch.events().size() < batchSize ? Mono.empty() : drain()));
+    }
+
+    /**
+     * 이벤트를 보내고 반영되지 않은 이벤트를 돌려준다. 일시적인 실패는 에러로 그대로 올려 배치를 다시 보내게 한다
+     */
+    private Mono<List<byte[]>> deliver(List<byte[]> events) {
+        return userServiceClient.recordLogins(events)
+                .map(result -> result.rejected().stream()
+                        .filter(index -> index >= 0 && index < events.size())
+                        .map(events::get)
+                        .toList())
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (!REJECTED_STATUSES.contains(e.getStatusCode().value())) {
+                        return Mono.error(e);
+                    }
+                    if (events.size() == 1) {
+                        log.error("userservice 가 로그인 이벤트를 거절했습니다: status={}", e.getStatusCode().value());
+                        return Mono.just(events);
+                    }
+                    int half = events.size() / 2;
+                    return deliver(events.subList(0, half))
+                            .flatMap(first -> deliver(events.subList(half, events.size()))
+                                    .map(second -> concat(first, second)));
+                });
+    }
+
+    private static List<byte[]> concat(List<byte[]> a, List<byte[]> b) {
+        if (a.isEmpty()) {
+            return b;
+        }
+        List<byte[]> joined = new ArrayList<>(a.size() + b.size());
+        joined.addAll(a);
+        joined.addAll(b);
+        return joined;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("login.events.relayed")
+                .description("userservice 에 전달한 로그인 이벤트")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
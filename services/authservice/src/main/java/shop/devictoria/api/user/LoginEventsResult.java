@@ -0,0 +1,17 @@
+package shop.devictoria.api.user;
+
+import java.util.List;
+
+/**
+ * userservice 로그인 이벤트 배치 반영 결과
+ *
+ * @param applied  반영된 계정 수
+ * @param rejected 다시 보내도 반영되지 않는 이벤트의 배치 내 인덱스
+ */
+public record LoginEventsResult(
+    int applied,
+    List<Integer> rejected
+) {
+
+    static final LoginEventsResult EMPTY = new LoginEventsResult(0, List.of());
+}
@@ -0,0 +1,69 @@
+package shop.devictoria.api.user;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * userservice 내부 API 호출. 모든 요청에 X-Internal-Token 헤더를 붙인다
+ */
+@Component
+public class UserServiceClient {
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private final WebClient webClient;
+
+    private final Duration timeout;
+
+    public UserServiceClient(WebClient.Builder builder,
+                             @Value("${userservice.base-url}") String baseUrl,
+                             @Value("${userservice.timeout:2s}") Duration timeout,
+                             @Value("${userservice.internal-token:}") String internalToken) {
+        this.webClient = builder.baseUrl(baseUrl)
+                .defaultHeader(INTERNAL_TOKEN_HEADER, internalToken)
+                .build();
+        this.timeout = timeout;
+    }
+
+    /**
+     * 로그인 이벤트 배치 전달. 아웃박스에 기록된 JSON 을 다시 직렬화하지 않고 배열로 이어 붙여 보낸다
+     */
+    public Mono<LoginEventsResult> recordLogins(List<byte[]> events) {
+        return webClient.post()
+                .uri("/internal/users/logins")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(jsonArray(events))
+                .retrieve()
+                .bodyToMono(LoginEventsResult.class)
+                .timeout(timeout)
+                .defaultIfEmpty(LoginEventsResult.EMPTY);
+    }
+
+    private static byte[] jsonArray(List<byte[]> events) {
+        int length = 2 + Math.max(0, events.size() - 1);
+        for (byte[] event : events) {
+            length += event.length;
+        }
+
+        byte[] body = new byte[length];
+        int position = 0;
+        body[position++] = '[';
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                body[position++] = ',';
+            }
+            byte[] event = events.get(i);
+            System.arraycopy(event, 0, body, position, event.length);
+            position += event.length;
+        }
+        body[position] = ']';
+        return body;
+    }
+}
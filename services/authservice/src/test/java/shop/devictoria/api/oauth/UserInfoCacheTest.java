@@ -0,0 +1,121 @@
+package shop.devictoria.api.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class UserInfoCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static final OAuthUserProfile PROFILE = new OAuthUserProfile("kakao", "1", "닉네임", null, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UserInfoCache cache = new UserInfoCache(meterRegistry, 1_000, Duration.ofMinutes(5), Duration.ofHours(1));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        Sinks.One<OAuthUserProfile> profile = Sinks.one();
+        Function<String, Mono<OAuthUserProfile>> loader = counting(token -> profile.asMono());
+
+        Mono<OAuthUserProfile> first = cache.get("kakao", "token", 3600, loader);
+        Mono<OAuthUserProfile> second = cache.get("kakao", "token", 3600, loader);
+        profile.tryEmitValue(PROFILE);
+
+        assertThat(first.block(TIMEOUT)).isEqualTo(PROFILE);
+        assertThat(second.block(TIMEOUT)).isEqualTo(PROFILE);
+        assertThat(cache.get("kakao", "token", 3600, loader).block(TIMEOUT)).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void keysByProviderAndToken() {
+        Function<String, Mono<OAuthUserProfile>> loader = counting(token -> Mono.just(PROFILE));
+
+        cache.get("kakao", "a", null, loader).block(TIMEOUT);
+        cache.get("kakao", "b", null, loader).block(TIMEOUT);
+        cache.get("naver", "a", null, loader).block(TIMEOUT);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void failedLoadIsSharedButNotCached() {
+        Sinks.One<OAuthUserProfile> profile = Sinks.one();
+        Function<String, Mono<OAuthUserProfile>> loader = counting(token -> loads.get() == 1
+                ? profile.asMono()
+                : Mono.just(PROFILE));
+
+        Mono<OAuthUserProfile> first = cache.get("kakao", "token", null, loader);
+        Mono<OAuthUserProfile> second = cache.get("kakao", "token", null, loader);
+        profile.tryEmitError(new IllegalStateException("provider down"));
+
+        assertThatThrownBy(() -> first.block(TIMEOUT)).hasMessage("provider down");
+        assertThatThrownBy(() -> second.block(TIMEOUT)).hasMessage("provider down");
+        assertThat(cache.get("kakao", "token", null, loader).block(TIMEOUT)).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void emptyLoadFails() {
+        assertThatThrownBy(() -> cache.get("kakao", "token", null, counting(token -> Mono.empty())).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void loaderThrowingDoesNotLeaveKeyPending() {
+        Function<String, Mono<OAuthUserProfile>> throwing = token -> {
+            throw new IllegalStateException("bad request");
+        };
+
+        assertThatThrownBy(() -> cache.get("kakao", "token", null, throwing).block(TIMEOUT))
+                .hasMessage("bad request");
+        assertThat(cache.get("kakao", "token", null, counting(token -> Mono.just(PROFILE))).block(TIMEOUT))
+                .isEqualTo(PROFILE);
+    }
+
+    @Test
+    void cancelledWaiterDoesNotCancelSharedLoad() {
+        Sinks.One<OAuthUserProfile> profile = Sinks.one();
+        AtomicBoolean loadCancelled = new AtomicBoolean();
+        Function<String, Mono<OAuthUserProfile>> loader =
+                counting(token -> profile.asMono().doOnCancel(() -> loadCancelled.set(true)));
+
+        Disposable first = cache.get("kakao", "token", null, loader).subscribe();
+        Mono<OAuthUserProfile> second = cache.get("kakao", "token", null, loader);
+        first.dispose();
+        profile.tryEmitValue(PROFILE);
+
+        assertThat(second.block(TIMEOUT)).isEqualTo(PROFILE);
+        assertThat(loadCancelled).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    private Function<String, Mono<OAuthUserProfile>> counting(Function<String, Mono<OAuthUserProfile>> loader) {
+        return token -> {
+            loads.incrementAndGet();
+            return loader.apply(token);
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("oauth.user-info.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,165 @@
+package shop.devictoria.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ProviderGuardTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(100);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Counter hedges = meterRegistry.counter("hedges");
+
+    @Test
+    void fastResponseIsNotHedged() {
+        Attempts attempts = new Attempts(Mono.just("first"), Mono.just("hedge"));
+
+        assertThat(guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("first");
+        assertThat(attempts.started()).isEqualTo(1);
+        assertThat(hedges.count()).isZero();
+    }
+
+    @Test
+    void slowFirstAttemptIsHedgedAndCancelled() {
+        AtomicBoolean firstCancelled = new AtomicBoolean();
+        Attempts attempts = new Attempts(
+                Mono.<String>never().doOnCancel(() -> firstCancelled.set(true)),
+                Mono.just("hedge"));
+
+        assertThat(guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("hedge");
+        assertThat(attempts.started()).isEqualTo(2);
+        assertThat(hedges.count()).isEqualTo(1);
+        assertThat(firstCancelled).isTrue();
+    }
+
+    @Test
+    void failureBeforeHedgeDelayFailsFastWithoutHedging() {
+        Attempts attempts = new Attempts(Mono.error(new IllegalStateException("first")), Mono.just("hedge"));
+
+        assertThatThrownBy(() -> guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("first");
+        assertThat(attempts.started()).isEqualTo(1);
+        assertThat(hedges.count()).isZero();
+    }
+
+    @Test
+    void firstFailingAfterHedgeWaitsForHedge() {
+        Attempts attempts = new Attempts(
+                Mono.delay(HEDGE_DELAY.multipliedBy(2)).then(Mono.error(new IllegalStateException("first"))),
+                Mono.delay(HEDGE_DELAY.multipliedBy(3)).thenReturn("hedge"));
+
+        assertThat(guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("hedge");
+    }
+
+    @Test
+    void hedgeFailingFirstWaitsForFirstAttempt() {
+        Attempts attempts = new Attempts(
+                Mono.delay(HEDGE_DELAY.multipliedBy(3)).thenReturn("first"),
+                Mono.error(new IllegalStateException("hedge")));
+
+        assertThat(guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("first");
+    }
+
+    @Test
+    void failsOnlyWhenBothAttemptsFail() {
+        Attempts attempts = new Attempts(
+                Mono.delay(HEDGE_DELAY.multipliedBy(2)).then(Mono.error(new IllegalStateException("first"))),
+                Mono.delay(HEDGE_DELAY.multipliedBy(2)).then(Mono.error(new IllegalStateException("hedge"))));
+
+        assertThatThrownBy(() -> guard(HEDGE_DELAY, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("hedge");
+        assertThat(attempts.started()).isEqualTo(2);
+    }
+
+    @Test
+    void hedgeRejectedByFullBulkheadWaitsForFirstAttempt() {
+        Attempts attempts = new Attempts(
+                Mono.delay(HEDGE_DELAY.multipliedBy(3)).thenReturn("first"),
+                Mono.just("hedge"));
+
+        assertThat(guard(HEDGE_DELAY, 1).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("first");
+        // 거절된 헤지는 제공자까지 가지 않는다
+        assertThat(attempts.started()).isEqualTo(1);
+        assertThat(hedges.count()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroHedgeDelayDisablesHedging() {
+        Attempts attempts = new Attempts(Mono.delay(HEDGE_DELAY).thenReturn("first"), Mono.just("hedge"));
+
+        assertThat(guard(Duration.ZERO, 10).hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("first");
+        assertThat(attempts.started()).isEqualTo(1);
+    }
+
+    @Test
+    void failureRacingTheHedgeTimerAlwaysTerminates() {
+        Duration delay = Duration.ofMillis(1);
+
+        // 첫 시도 실패와 헤지 시작이 거의 동시에 일어나도 결과는 헤지 성공이거나 첫 시도 실패 중 하나여야 하고 멈추면 안 된다
+        // (반복마다 새 보호막을 써서 쌓인 실패로 서킷이 열리지 않게 한다)
+        for (int i = 0; i < 200; i++) {
+            ProviderGuard guard = guard(delay, 10);
+            Attempts attempts = new Attempts(
+                    Mono.delay(delay).then(Mono.error(new IllegalStateException("first"))),
+                    Mono.just("hedge"));
+            try {
+                assertThat(guard.hedged(ProviderCall.USER_INFO, attempts).block(TIMEOUT)).isEqualTo("hedge");
+            } catch (IllegalStateException e) {
+                assertThat(e).hasMessage("first");
+            }
+        }
+    }
+
+    private ProviderGuard guard(Duration hedgeDelay, int maxConcurrentCalls) {
+        Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        return new ProviderGuard("테스트", CircuitBreaker.ofDefaults("test"), bulkhead, hedgeDelay, hedges,
+                new ProviderCallTimers("test", meterRegistry));
+    }
+
+    /**
+     * n 번째로 구독된 시도에 n 번째 응답을 준다 (첫 시도, 헤지)
+     */
+    private static final class Attempts implements Supplier<Mono<String>> {
+
+        private final List<Mono<String>> responses;
+
+        private final AtomicInteger started = new AtomicInteger();
+
+        @SafeVarargs
+        Attempts(Mono<String>... responses) {
+            this.responses = List.of(responses);
+        }
+
+        @Override
+        public Mono<String> get() {
+            return responses.get(started.getAndIncrement());
+        }
+
+        int started() {
+            return started.get();
+        }
+    }
+}
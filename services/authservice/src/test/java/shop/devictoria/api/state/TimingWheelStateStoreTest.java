@@ -0,0 +1,95 @@
+package shop.devictoria.api.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelStateStoreTest {
+
+    // ticker 가 테스트 중에 돌지 않도록 틱을 길게 잡고 advance 를 직접 부른다
+    private static final Duration TICK = Duration.ofHours(1);
+
+    private static final long TICK_MILLIS = TICK.toMillis();
+
+    private static final int WHEEL_SIZE = 4;
+
+    private final TimingWheelStateStore store = new TimingWheelStateStore(TICK, WHEEL_SIZE, 100);
+
+    @AfterEach
+    void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    void removesEntryInTheTickAfterItsExpiry() {
+        long startTick = System.currentTimeMillis() / TICK_MILLIS;
+        long expiresTick = startTick + 1;
+        save("a", expiresTick);
+
+        store.advance(expiresTick * TICK_MILLIS);
+        assertThat(store.size()).isEqualTo(1);
+
+        store.advance((expiresTick + 1) * TICK_MILLIS);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void removesEntryBeyondOneRevolutionWithoutWaitingAnotherRevolution() {
+        long startTick = System.currentTimeMillis() / TICK_MILLIS;
+        long expiresTick = startTick + WHEEL_SIZE + 1;
+        save("a", expiresTick);
+
+        // 만료 틱 슬롯을 한 바퀴 전과 만료 틱(만료 전 시각)에 모두 지난다
+        store.advance(expiresTick * TICK_MILLIS);
+        assertThat(store.size()).isEqualTo(1);
+
+        store.advance((expiresTick + 1) * TICK_MILLIS);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void consumeReturnsPendingOnce() {
+        PendingAuthorization pending = new PendingAuthorization("kakao", "verifier");
+        store.save("a", pending, Duration.ofMinutes(5)).block();
+
+        assertThat(store.consume("a").block()).isEqualTo(pending);
+        assertThat(store.consume("a").blockOptional()).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void consumeIgnoresExpiredEntryNotYetSwept() {
+        store.save("a", new PendingAuthorization("kakao", null), Duration.ZERO).block();
+
+        assertThat(store.consume("a").blockOptional()).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void rejectsSaveBeyondMaxEntries() {
+        TimingWheelStateStore small = new TimingWheelStateStore(TICK, WHEEL_SIZE, 1);
+        try {
+            small.save("a", new PendingAuthorization("kakao", null), Duration.ofMinutes(5)).block();
+
+            assertThatThrownBy(() -> small.save("b", new PendingAuthorization("kakao", null),
+                    Duration.ofMinutes(5)).block())
+                    .isInstanceOf(StateStoreFullException.class);
+            assertThat(small.size()).isEqualTo(1);
+        } finally {
+            small.destroy();
+        }
+    }
+
+    /**
+     * 만료 시각이 expiresTick 의 중간이 되도록 저장한다
+     */
+    private void save(String state, long expiresTick) {
+        long expiresAt = expiresTick * TICK_MILLIS + TICK_MILLIS / 2;
+        Duration ttl = Duration.ofMillis(expiresAt - System.currentTimeMillis());
+        store.save(state, new PendingAuthorization("kakao", null), ttl).block();
+    }
+}
@@ -0,0 +1,240 @@
+package shop.devictoria.api.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RefreshTokenStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysIssuedAndRotatedTokensAfterReopen() {
+        String first;
+        String second;
+        try (RefreshTokenStore store = open(100)) {
+            first = store.issue("kakao:1", "kakao").refreshToken();
+            second = store.rotate(first).refreshToken();
+        }
+
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.size()).isEqualTo(2);
+            RefreshTokenGrant third = store.rotate(second);
+            assertThat(third.subject()).isEqualTo("kakao:1");
+            assertThat(third.provider()).isEqualTo("kakao");
+            assertReason(() -> store.rotate(first), InvalidRefreshTokenException.Reason.REUSED);
+        }
+    }
+
+    @Test
+    void reuseRevokesTheWholeFamily() {
+        try (RefreshTokenStore store = open(100)) {
+            String first = store.issue("kakao:1", "kakao").refreshToken();
+            String second = store.rotate(first).refreshToken();
+            String other = store.issue("kakao:2", "kakao").refreshToken();
+
+            assertReason(() -> store.rotate(first), InvalidRefreshTokenException.Reason.REUSED);
+            assertReason(() -> store.rotate(second), InvalidRefreshTokenException.Reason.REVOKED);
+            assertThat(store.rotate(other).subject()).isEqualTo("kakao:2");
+        }
+    }
+
+    @Test
+    void revocationSurvivesReopen() {
+        String token;
+        try (RefreshTokenStore store = open(100)) {
+            token = store.issue("kakao:1", "kakao").refreshToken();
+            store.revoke(token);
+        }
+
+        try (RefreshTokenStore store = open(100)) {
+            assertReason(() -> store.rotate(token), InvalidRefreshTokenException.Reason.REVOKED);
+        }
+    }
+
+    @Test
+    void dropsRecordWithBadChecksumOnReplay() throws IOException {
+        String first;
+        String second;
+        try (RefreshTokenStore store = open(100)) {
+            first = store.issue("kakao:1", "kakao").refreshToken();
+            second = store.issue("kakao:2", "kakao").refreshToken();
+        }
+        // 마지막 레코드(두 번째 토큰)의 마지막 바이트를 뒤집는다
+        Path segment = segments().getLast();
+        byte[] bytes = Files.readAllBytes(segment);
+        int last = bytes.length - 1;
+        while (bytes[last] == 0) {
+            last--;
+        }
+        bytes[last] ^= 0x7f;
+        Files.write(segment, bytes);
+
+        String third;
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.size()).isEqualTo(1);
+            assertReason(() -> store.rotate(second), InvalidRefreshTokenException.Reason.UNKNOWN);
+            third = store.issue("kakao:3", "kakao").refreshToken();
+        }
+
+        // 잘라낸 자리에 이어 쓴 레코드도 다시 읽힌다
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.rotate(first).subject()).isEqualTo("kakao:1");
+            assertThat(store.rotate(third).subject()).isEqualTo("kakao:3");
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyLiveTokens() throws IOException {
+        List<String> live = new ArrayList<>();
+        List<String> rotated = new ArrayList<>();
+        String revoked;
+        try (RefreshTokenStore store = open(100)) {
+            for (int i = 0; i < 100; i++) {
+                String token = store.issue("kakao:" + i, "kakao").refreshToken();
+                if (i % 2 == 0) {
+                    rotated.add(token);
+                    live.add(store.rotate(token).refreshToken());
+                } else {
+                    live.add(token);
+                }
+            }
+            revoked = live.removeLast();
+            store.revoke(revoked);
+            int before = segments().size();
+
+            store.compact();
+
+            assertThat(segments().size()).isLessThan(before);
+            assertThat(store.size()).isEqualTo(live.size() + rotated.size());
+        }
+
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.size()).isEqualTo(live.size() + rotated.size());
+            assertReason(() -> store.rotate(revoked), InvalidRefreshTokenException.Reason.UNKNOWN);
+            assertReason(() -> store.rotate(rotated.getFirst()), InvalidRefreshTokenException.Reason.REUSED);
+            for (String token : live.subList(1, live.size())) {
+                store.rotate(token);
+            }
+        }
+    }
+
+    @Test
+    void reopenAppendsToFreshSegmentWithoutGrowingOldOnes() throws IOException {
+        try (RefreshTokenStore store = open(100)) {
+            store.issue("kakao:1", "kakao");
+            store.compact();
+        }
+        // compaction 스냅샷은 쓴 만큼의 크기이다
+        Path snapshot = segments().getFirst();
+        long snapshotSize = Files.size(snapshot);
+        assertThat(snapshotSize).isLessThan(SEGMENT_SIZE);
+        List<Path> before = segments();
+
+        String token;
+        try (RefreshTokenStore store = open(100)) {
+            token = store.issue("kakao:2", "kakao").refreshToken();
+        }
+
+        assertThat(Files.size(snapshot)).isEqualTo(snapshotSize);
+        assertThat(segments()).hasSize(before.size() + 1).containsAll(before);
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.rotate(token).subject()).isEqualTo("kakao:2");
+        }
+    }
+
+    @Test
+    void issuesWhileCompacting() throws Exception {
+        ConcurrentLinkedQueue<String> issued = new ConcurrentLinkedQueue<>();
+        AtomicBoolean done = new AtomicBoolean();
+        try (RefreshTokenStore store = open(1000)) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 300; i++) {
+                        String token = store.issue("kakao:" + thread + "-" + i, "kakao").refreshToken();
+                        issued.add(store.rotate(token).refreshToken());
+                    }
+                }));
+            }
+            Future<?> compactor = executor.submit(() -> {
+                while (!done.get()) {
+                    store.compact();
+                }
+            });
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            done.set(true);
+            compactor.get();
+            executor.shutdown();
+        }
+
+        try (RefreshTokenStore store = open(1000)) {
+            for (String token : issued) {
+                store.rotate(token);
+            }
+        }
+        try (Stream<Path> list = Files.list(directory)) {
+            assertThat(list.filter(path -> path.toString().endsWith(".tmp"))).isEmpty();
+        }
+    }
+
+    @Test
+    void recordLargerThanSegmentGetsItsOwnSegment() {
+        String subject = "kakao:" + "1".repeat(SEGMENT_SIZE);
+        String token;
+        try (RefreshTokenStore store = open(100)) {
+            token = store.issue(subject, "kakao").refreshToken();
+        }
+
+        try (RefreshTokenStore store = open(100)) {
+            assertThat(store.rotate(token).subject()).isEqualTo(subject);
+        }
+    }
+
+    @Test
+    void rejectsSubjectThatDoesNotFitTheRecordFormat() {
+        try (RefreshTokenStore store = open(100)) {
+            assertThatThrownBy(() -> store.issue("kakao:" + "1".repeat(0x10000), "kakao"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    private RefreshTokenStore open(int compactionThreshold) {
+        return new RefreshTokenStore(directory, SEGMENT_SIZE, compactionThreshold, false, Duration.ofDays(1));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static void assertReason(Runnable call, InvalidRefreshTokenException.Reason reason) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(InvalidRefreshTokenException.class, e -> assertThat(e.reason()).isEqualTo(reason));
+    }
+}
@@ -0,0 +1,151 @@
+package shop.devictoria.api.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoginEventOutboxTest {
+
+    private static final int MAX_RECORD_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversWrittenEventsAfterReopen() {
+        write(1 << 20, "a", "b", "c");
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(texts(outbox.read(10))).containsExactly("a", "b", "c");
+        }
+    }
+
+    @Test
+    void dropsTornTailOnRecovery() throws IOException {
+        write(1 << 20, "a", "b");
+        Path segment = segments().getLast();
+        long valid = Files.size(segment);
+        // 길이 헤더만 쓰고 본문을 쓰다 만 레코드
+        appendRaw(segment, ByteBuffer.allocate(6).putInt(100).putShort((short) 7).flip());
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(texts(outbox.read(10))).containsExactly("a", "b");
+        }
+        assertThat(Files.size(segment)).isEqualTo(valid);
+    }
+
+    @Test
+    void dropsTailWithBadChecksumOnRecovery() throws IOException {
+        write(1 << 20, "a", "b");
+        Path segment = segments().getLast();
+        long valid = Files.size(segment);
+        byte[] payload = "c".getBytes(StandardCharsets.UTF_8);
+        appendRaw(segment, ByteBuffer.allocate(8 + payload.length).putInt(payload.length).putInt(0xdead).put(payload).flip());
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(texts(outbox.read(10))).containsExactly("a", "b");
+        }
+        assertThat(Files.size(segment)).isEqualTo(valid);
+    }
+
+    @Test
+    void resumesFromAcknowledgedCursorAfterRestart() {
+        write(1 << 20, "a", "b", "c");
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            LoginEventOutbox.Batch batch = outbox.read(2);
+            assertThat(texts(batch)).containsExactly("a", "b");
+            outbox.acknowledge(batch);
+        }
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(texts(outbox.read(10))).containsExactly("c");
+        }
+    }
+
+    @Test
+    void unacknowledgedBatchIsReadAgain() {
+        write(1 << 20, "a", "b");
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(texts(outbox.read(10))).containsExactly("a", "b");
+            assertThat(texts(outbox.read(10))).containsExactly("a", "b");
+        }
+    }
+
+    @Test
+    void deletesSegmentsBehindCursor() throws IOException {
+        // 세그먼트 크기가 작아 열 때마다 새 세그먼트에 쓴다
+        write(1, "a");
+        write(1, "b");
+        write(1, "c");
+        assertThat(segments()).hasSize(3);
+
+        try (LoginEventOutbox outbox = open(1)) {
+            for (String expected : List.of("a", "b", "c")) {
+                LoginEventOutbox.Batch batch = outbox.read(10);
+                assertThat(texts(batch)).containsExactly(expected);
+                outbox.acknowledge(batch);
+            }
+            assertThat(outbox.read(10).events()).isEmpty();
+            assertThat(outbox.backlogBytes()).isZero();
+        }
+        // 마지막(활성) 세그먼트만 남는다
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    void parkedEventsAreNotRecoveredAsSegments() throws IOException {
+        write(1 << 20, "a", "b");
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            LoginEventOutbox.Batch batch = outbox.read(10);
+            outbox.park(List.of(batch.events().get(1)));
+            outbox.acknowledge(batch);
+        }
+        assertThat(Files.size(directory.resolve("parked.dat"))).isEqualTo(8 + 1);
+
+        try (LoginEventOutbox outbox = open(1 << 20)) {
+            assertThat(outbox.read(10).events()).isEmpty();
+        }
+    }
+
+    private void write(long segmentSize, String... events) {
+        try (LoginEventOutbox outbox = open(segmentSize)) {
+            for (String event : events) {
+                assertThat(outbox.offer(event.getBytes(StandardCharsets.UTF_8))).isTrue();
+            }
+        }
+    }
+
+    private LoginEventOutbox open(long segmentSize) {
+        return new LoginEventOutbox(directory, 100, segmentSize, MAX_RECORD_SIZE, false);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static void appendRaw(Path segment, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(bytes);
+        }
+    }
+
+    private static List<String> texts(LoginEventOutbox.Batch batch) {
+        return batch.events().stream().map(event -> new String(event, StandardCharsets.UTF_8)).toList();
+    }
+}
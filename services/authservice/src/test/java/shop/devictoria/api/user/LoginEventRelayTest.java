@@ -0,0 +1,127 @@
+package shop.devictoria.api.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class LoginEventRelayTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parksRejectedEventsAndAcknowledgesTheRest() throws Exception {
+        write("a", "bad", "c");
+        UserServiceClient client = mock(UserServiceClient.class);
+        when(client.recordLogins(anyList())).thenReturn(Mono.just(new LoginEventsResult(2, List.of(1))));
+
+        try (LoginEventOutbox outbox = open()) {
+            relay(outbox, client);
+
+            assertThat(outbox.read(10).events()).isEmpty();
+        }
+        assertThat(Files.size(directory.resolve("parked.dat"))).isEqualTo(8 + "bad".length());
+    }
+
+    @Test
+    void bisectsBatchRejectedAsAWhole() throws Exception {
+        write("a", "b", "bad", "d", "e");
+        UserServiceClient client = mock(UserServiceClient.class);
+        when(client.recordLogins(anyList())).thenAnswer(invocation -> {
+            List<byte[]> events = invocation.getArgument(0);
+            boolean poisoned = events.stream().anyMatch(event -> "bad".equals(new String(event, StandardCharsets.UTF_8)));
+            return poisoned
+                    ? Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null))
+                    : Mono.just(new LoginEventsResult(events.size(), List.of()));
+        });
+
+        try (LoginEventOutbox outbox = open()) {
+            relay(outbox, client);
+
+            assertThat(outbox.read(10).events()).isEmpty();
+        }
+        assertThat(Files.size(directory.resolve("parked.dat"))).isEqualTo(8 + "bad".length());
+    }
+
+    @Test
+    void keepsBatchWhenUserServiceIsUnavailable() throws Exception {
+        write("a", "b");
+        UserServiceClient client = mock(UserServiceClient.class);
+        when(client.recordLogins(anyList()))
+                .thenReturn(Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
+
+        try (LoginEventOutbox outbox = open()) {
+            LoginEventRelay relay = new LoginEventRelay(outbox, client, new SimpleMeterRegistry(), 10,
+                    Duration.ofMillis(10), Duration.ofMillis(50));
+            relay.afterPropertiesSet();
+            Thread.sleep(200);
+            relay.destroy();
+
+            assertThat(outbox.read(10).events()).hasSize(2);
+        }
+        assertThat(directory.resolve("parked.dat")).doesNotExist();
+    }
+
+    @Test
+    void stopFinishesInFlightBatch() throws Exception {
+        write("a", "b");
+        UserServiceClient client = mock(UserServiceClient.class);
+        CountDownLatch sending = new CountDownLatch(1);
+        when(client.recordLogins(anyList())).thenReturn(Mono.fromRunnable(sending::countDown)
+                .then(Mono.delay(Duration.ofMillis(200)))
+                .thenReturn(new LoginEventsResult(2, List.of())));
+
+        try (LoginEventOutbox outbox = open()) {
+            LoginEventRelay relay = new LoginEventRelay(outbox, client, new SimpleMeterRegistry(), 10,
+                    Duration.ofMillis(10), Duration.ofMillis(50));
+            relay.afterPropertiesSet();
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            relay.destroy();
+
+            // 보내던 배치는 끊지 않고 확인까지 마친다
+            assertThat(outbox.read(10).events()).isEmpty();
+        }
+    }
+
+    private void relay(LoginEventOutbox outbox, UserServiceClient client) throws InterruptedException {
+        LoginEventRelay relay = new LoginEventRelay(outbox, client, new SimpleMeterRegistry(), 10,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        relay.afterPropertiesSet();
+        try {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (outbox.backlogBytes() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            relay.destroy();
+        }
+    }
+
+    private void write(String... events) {
+        try (LoginEventOutbox outbox = open()) {
+            for (String event : events) {
+                outbox.offer(event.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private LoginEventOutbox open() {
+        return new LoginEventOutbox(directory, 100, 1 << 20, 1024, false);
+    }
+}
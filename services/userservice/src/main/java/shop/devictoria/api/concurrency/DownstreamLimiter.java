@@ -0,0 +1,78 @@
+package shop.devictoria.api.concurrency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 다운스트림(DB 등)별 동시 호출 수 제한
+ *
+ * 가상 스레드 모드에서는 요청 스레드 수에 상한이 없으므로, 커넥션 풀보다 많은 요청이 한꺼번에 풀을 기다리며
+ * 타임아웃이 연쇄되지 않도록 다운스트림마다 세마포어로 동시 호출 수를 묶어 둔다.
+ * 허가를 acquire-timeout 안에 얻지 못하면 503 으로 빨리 실패한다.
+ *
+ * downstream.limits.{이름}.max-concurrent 로 설정하며, database 의 기본값은 Hikari 풀 크기다.
+ */
+@Component
+public class DownstreamLimiter {
+
+    public static final String DATABASE = "database";
+
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    private final Binder binder;
+
+    private final int defaultMaxConcurrent;
+
+    private final Duration acquireTimeout;
+
+    public DownstreamLimiter(Environment environment) {
+        this.binder = Binder.get(environment);
+        this.defaultMaxConcurrent = binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).orElse(10);
+        this.acquireTimeout = binder.bind("downstream.acquire-timeout", Duration.class).orElse(Duration.ofSeconds(2));
+    }
+
+    public <T> T call(String downstream, Supplier<T> call) {
+        Semaphore semaphore = permits.computeIfAbsent(downstream, this::create);
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, downstream + " 호출이 중단되었습니다");
+        }
+        if (!acquired) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, downstream + " 동시 호출 한도 초과");
+        }
+
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 허가 수 (모니터링용)
+     */
+    public int available(String downstream) {
+        Semaphore semaphore = permits.get(downstream);
+        return semaphore == null ? -1 : semaphore.availablePermits();
+    }
+
+    private Semaphore create(String downstream) {
+        int maxConcurrent = binder.bind("downstream.limits." + downstream + ".max-concurrent", Bindable.of(Integer.class))
+                .orElse(defaultMaxConcurrent);
+        return new Semaphore(maxConcurrent);
+    }
+}
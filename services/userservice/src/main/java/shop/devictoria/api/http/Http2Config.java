@@ -0,0 +1,33 @@
+package shop.devictoria.api.http;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게이트웨이에서 오는 h2c(HTTP/2 cleartext) 연결의 스트림 한도
+ *
+ * server.http2.enabled 로 커넥터에 HTTP/2 가 붙으면 같은 포트에서 HTTP/1.1 과 h2c(prior knowledge, Upgrade 모두)를 받는다.
+ * 게이트웨이는 연결 몇 개에 요청을 다중화하므로 Tomcat 기본값(연결당 동시 실행 20)이면
+ * 스레드가 남아도 연결 안에서 스트림이 줄을 선다. 연결당 한도를 요청 스레드 풀 크기 수준으로 올린다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class Http2Config {
+
+    @Bean
+    public TomcatConnectorCustomizer http2StreamLimits(
+            @Value("${server-http2.max-concurrent-streams:200}") long maxConcurrentStreams,
+            @Value("${server-http2.max-concurrent-stream-execution:200}") int maxConcurrentStreamExecution) {
+        return connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * authservice 가 보내는 로그인 이벤트 (POST /internal/users/logins)
+ *
+ * 같은 이벤트가 다시 오거나 순서가 바뀌어 와도 loggedInAt 으로 걸러 한 번만 반영된다.
+ */
+public record LoginEvent(
+    UUID eventId,
+    String provider,
+    String providerUserId,
+    String nickname,
+    String email,
+    String profileImage,
+    Instant loggedInAt
+) {
+
+    public String subject() {
+        return provider + ":" + providerUserId;
+    }
+}
@@ -0,0 +1,15 @@
+package shop.devictoria.api.user;
+
+import java.util.List;
+
+/**
+ * 로그인 이벤트 배치 반영 결과 (POST /internal/users/logins 응답)
+ *
+ * @param applied  반영한 계정 수
+ * @param rejected 다시 보내도 반영할 수 없는 이벤트의 요청 배열 인덱스 (필수 항목 누락, 컬럼 길이 초과 등)
+ */
+public record LoginEventsResult(
+    int applied,
+    List<Integer> rejected
+) {
+}
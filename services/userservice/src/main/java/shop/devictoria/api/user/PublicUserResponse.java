@@ -0,0 +1,25 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+
+/**
+ * 다른 사용자가 보는 공개 프로필 (GET /users/{id}, 여러 사용자 조회). 공유 캐시에 저장되므로 이메일은 싣지 않는다
+ */
+public record PublicUserResponse(
+    Long id,
+    String nickname,
+    String profileImage,
+    Instant createdAt,
+    Instant updatedAt
+) {
+
+    public static PublicUserResponse from(UserResponse user) {
+        return new PublicUserResponse(
+                user.id(),
+                user.nickname(),
+                user.profileImage(),
+                user.createdAt(),
+                user.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package shop.devictoria.api.user;
+
+/**
+ * 로그인 성공 시 authservice 가 보내는 소셜 프로필
+ */
+public record UpsertUserRequest(
+    String provider,
+    String providerUserId,
+    String nickname,
+    String email,
+    String profileImage
+) {
+
+    /**
+     * 게이트웨이가 전달하는 X-User-Id 와 같은 "{provider}:{providerUserId}" 형식
+     */
+    public String subject() {
+        return provider + ":" + providerUserId;
+    }
+}
@@ -0,0 +1,97 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 서비스 사용자. 소셜 계정(UserIdentity) 여러 개가 한 사용자에 연결될 수 있다
+ */
+@Entity
+@Table(name = "users")
+public class User {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 100)
+    private String nickname;
+
+    @Column(length = 320)
+    private String email;
+
+    @Column(length = 1000)
+    private String profileImage;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    protected User() {
+    }
+
+    public User(String nickname, String email, String profileImage) {
+        this.nickname = nickname;
+        this.email = email;
+        this.profileImage = profileImage;
+        this.createdAt = Instant.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * 로그인 시 제공자가 준 프로필로 갱신. 제공자가 비워 보낸 항목은 기존 값을 유지한다
+     *
+     * @return 실제로 바뀐 항목이 있으면 true
+     */
+    public boolean updateProfile(String nickname, String email, String profileImage) {
+        boolean changed = false;
+        if (nickname != null && !nickname.equals(this.nickname)) {
+            this.nickname = nickname;
+            changed = true;
+        }
+        if (email != null && !email.equals(this.email)) {
+            this.email = email;
+            changed = true;
+        }
+        if (profileImage != null && !profileImage.equals(this.profileImage)) {
+            this.profileImage = profileImage;
+            changed = true;
+        }
+        if (changed) {
+            this.updatedAt = Instant.now();
+        }
+        return changed;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getProfileImage() {
+        return profileImage;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,119 @@
+package shop.devictoria.api.user;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import shop.devictoria.api.concurrency.DownstreamLimiter;
+
+/**
+ * 여러 사용자를 한 번에 조회
+ *
+ * 중복 id 를 제거한 뒤 캐시에 있는 사용자는 메모리에서 바로 내보내고,
+ * 나머지는 chunk-size 단위 IN 쿼리(findAllById)로 읽어 캐시에 채우면서 내보낸다.
+ * 결과를 소비자에게 바로 넘기므로 NDJSON 스트리밍 시 전체 결과를 메모리에 모으지 않는다.
+ */
+@Component
+public class UserBatchLoader {
+
+    private final UserRepository userRepository;
+
+    private final Cache cache;
+
+    private final DownstreamLimiter limiter;
+
+    private final int chunkSize;
+
+    private final int maxIds;
+
+    public UserBatchLoader(UserRepository userRepository,
+                           CacheManager cacheManager,
+                           DownstreamLimiter limiter,
+                           @Value("${users.batch.chunk-size:500}") int chunkSize,
+                           @Value("${users.batch.max-ids:10000}") int maxIds) {
+        this.userRepository = userRepository;
+        this.cache = cacheManager.getCache(UserCacheConfig.USERS);
+        this.limiter = limiter;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 요청 순서대로 정렬된 결과. 없는 id 는 빠진다
+     *
+     * @param ids {@link #dedupe(Collection)} 를 거친 id
+     */
+    public List<UserResponse> load(Set<Long> ids) {
+        Map<Long, UserResponse> found = new HashMap<>(ids.size() * 2);
+        forEach(ids, user -> found.put(user.id(), user));
+
+        List<UserResponse> ordered = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            UserResponse user = found.get(id);
+            if (user != null) {
+                ordered.add(user);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 찾은 순서대로(캐시 적중분 먼저) 소비자에게 넘긴다. 없는 id 는 빠진다
+     *
+     * @param ids {@link #dedupe(Collection)} 를 거친 id
+     */
+    public void stream(Set<Long> ids, Consumer<UserResponse> consumer) {
+        forEach(ids, consumer);
+    }
+
+    private void forEach(Set<Long> ids, Consumer<UserResponse> consumer) {
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            UserResponse cached = cache.get(id, UserResponse.class);
+            if (cached != null) {
+                consumer.accept(cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            for (User user : limiter.call(DownstreamLimiter.DATABASE, () -> userRepository.findAllById(chunk))) {
+                UserResponse response = UserResponse.from(user);
+                cache.put(response.id(), response);
+                consumer.accept(response);
+            }
+        }
+    }
+
+    /**
+     * null 과 중복을 제거하고 요청 순서를 유지한다
+     *
+     * @throws ResponseStatusException 400, id 가 max-ids 를 넘을 때
+     */
+    public Set<Long> dedupe(Collection<Long> ids) {
+        Set<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                unique.add(id);
+            }
+        }
+        if (unique.size() > maxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 사용자는 최대 " + maxIds + "명입니다");
+        }
+        return unique;
+    }
+}
@@ -0,0 +1,8 @@
+package shop.devictoria.api.user;
+
+import java.util.List;
+
+public record UserBatchRequest(
+    List<Long> ids
+) {
+}
@@ -0,0 +1,22 @@
+package shop.devictoria.api.user;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 조회 캐시 (Caffeine, spring.cache.caffeine.spec 로 크기/TTL 설정)
+ */
+@Configuration
+@EnableCaching
+public class UserCacheConfig {
+
+    /**
+     * 사용자 id → UserResponse
+     */
+    public static final String USERS = "users";
+
+    /**
+     * "{provider}:{providerUserId}" → UserResponse
+     */
+    public static final String USERS_BY_SUBJECT = "usersBySubject";
+}
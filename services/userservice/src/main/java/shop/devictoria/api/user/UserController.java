@@ -0,0 +1,193 @@
+package shop.devictoria.api.user;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 사용자 API
+ *
+ * /users/** 는 게이트웨이의 /api/users/** 로 공개되고, X-User-Id 는 게이트웨이가 JWT 검증 후 채운다.
+ * /internal/users/** 는 게이트웨이 경로 재작성으로 닿지 않으며 authservice 만 호출한다.
+ * 서비스 포트에 직접 닿는 호출도 막도록 X-Internal-Token 헤더가 internal-api.token 과 같아야 하며,
+ * 토큰이 설정되지 않으면 404 로 숨긴다.
+ */
+@RestController
+public class UserController {
+
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    /**
+     * 게이트웨이 응답 캐시와 브라우저가 재사용할 수 있는 시간. 만료 후에는 ETag 로 재검증한다.
+     * 공유 캐시에 남으므로 이메일이 빠진 공개 프로필에만 쓴다
+     */
+    private static final CacheControl PUBLIC_PROFILE = CacheControl.maxAge(Duration.ofSeconds(30));
+
+    private static final CacheControl PRIVATE_PROFILE = CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate();
+
+    private final UserService userService;
+
+    private final UserBatchLoader batchLoader;
+
+    private final ObjectWriter publicUserWriter;
+
+    private final byte[] internalToken;
+
+    public UserController(UserService userService,
+                          UserBatchLoader batchLoader,
+                          ObjectMapper objectMapper,
+                          @Value("${internal-api.token:}") String internalToken) {
+        this.userService = userService;
+        this.batchLoader = batchLoader;
+        this.publicUserWriter = objectMapper.writerFor(PublicUserResponse.class);
+        this.internalToken = internalToken.isBlank() ? null : internalToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 내 프로필. 첫 로그인 직후에는 로그인 이벤트가 아직 반영되지 않아(릴레이 주기, 보통 1초 이내) 잠시 404 일 수 있으므로
+     * Retry-After 를 붙인다
+     */
+    @GetMapping("/users/me")
+    public ResponseEntity<UserResponse> me(@RequestHeader(value = USER_ID_HEADER, required = false) String subject,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (subject == null || subject.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Optional<UserResponse> user = userService.findBySubject(subject);
+        if (user.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        return conditional(user, Function.identity(), PRIVATE_PROFILE, ifNoneMatch);
+    }
+
+    @GetMapping("/users/{id}")
+    public ResponseEntity<PublicUserResponse> user(@PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(userService.findById(id), PublicUserResponse::from, PUBLIC_PROFILE, ifNoneMatch);
+    }
+
+    /**
+     * 여러 사용자의 공개 프로필 조회 (GET /users?ids=1,2,3). 요청 순서대로 반환하며 없는 id 는 빠진다
+     *
+     * Accept: application/x-ndjson 이면 찾는 대로 한 줄씩 스트리밍한다 (캐시 적중분 먼저, 순서 보장 없음)
+     */
+    @GetMapping("/users")
+    public ResponseEntity<?> users(@RequestParam List<Long> ids,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return batch(ids, accept);
+    }
+
+    /**
+     * 여러 사용자 조회. id 가 많아 쿼리 문자열에 담기 어려울 때 사용
+     */
+    @PostMapping("/users/batch")
+    public ResponseEntity<?> batch(@RequestBody UserBatchRequest request,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return batch(request.ids() == null ? List.of() : request.ids(), accept);
+    }
+
+    /**
+     * 로그인 시 사용자 등록/프로필 갱신 (authservice 전용)
+     */
+    @PostMapping("/internal/users")
+    public UserResponse upsert(@RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token,
+                               @RequestBody UpsertUserRequest request) {
+        authorizeInternal(token);
+        if (request.provider() == null || request.providerUserId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "provider 와 providerUserId 는 필수입니다");
+        }
+
+        return userService.upsert(request);
+    }
+
+    /**
+     * 로그인 이벤트 배치 반영 (authservice LoginEventRelay 전용). 중복·순서 뒤바뀐 이벤트는 무시된다.
+     * 반영할 수 없는 이벤트는 배치를 실패시키지 않고 응답의 rejected 로 알려 준다
+     */
+    @PostMapping("/internal/users/logins")
+    public LoginEventsResult recordLogins(@RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String token,
+                                          @RequestBody List<LoginEvent> events) {
+        authorizeInternal(token);
+        return userService.recordLogins(events);
+    }
+
+    private void authorizeInternal(String token) {
+        if (internalToken == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (token == null || !MessageDigest.isEqual(internalToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    private ResponseEntity<?> batch(List<Long> ids, String accept) {
+        Set<Long> unique = batchLoader.dedupe(ids);
+        if (accept == null || !accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return ResponseEntity.ok(batchLoader.load(unique).stream().map(PublicUserResponse::from).toList());
+        }
+
+        StreamingResponseBody body = out -> batchLoader.stream(unique, user -> writeLine(out, PublicUserResponse.from(user)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 프로필 버전(updatedAt)으로 ETag 를 만들고, If-None-Match 가 같으면 본문 없이 304
+     *
+     * @param view 응답 본문으로 내보낼 형태
+     */
+    private static <T> ResponseEntity<T> conditional(Optional<UserResponse> user,
+                                                     Function<UserResponse, T> view,
+                                                     CacheControl cacheControl,
+                                                     String ifNoneMatch) {
+        if (user.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        UserResponse response = user.get();
+        String etag = "\"" + response.id() + "-" + response.updatedAt().toEpochMilli() + "\"";
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(view.apply(response));
+    }
+
+    private void writeLine(OutputStream out, PublicUserResponse user) {
+        try {
+            out.write(publicUserWriter.writeValueAsBytes(user));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 소셜 로그인 계정 (provider, providerUserId) → 사용자 연결
+ */
+@Entity
+@Table(name = "user_identities",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_identities_provider_user",
+                columnNames = {"provider", "provider_user_id"}))
+public class UserIdentity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String provider;
+
+    @Column(name = "provider_user_id", nullable = false, length = 255)
+    private String providerUserId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Instant lastLoginAt;
+
+    protected UserIdentity() {
+    }
+
+    public UserIdentity(String provider, String providerUserId, User user) {
+        this(provider, providerUserId, user, Instant.now());
+    }
+
+    public UserIdentity(String provider, String providerUserId, User user, Instant lastLoginAt) {
+        this.provider = provider;
+        this.providerUserId = providerUserId;
+        this.user = user;
+        this.lastLoginAt = lastLoginAt;
+    }
+
+    public void touch() {
+        this.lastLoginAt = Instant.now();
+    }
+
+    /**
+     * 로그인 이벤트 반영. 마지막 로그인보다 오래된 이벤트(재전송, 순서 뒤바뀜)는 무시한다
+     *
+     * @return 반영했으면 true
+     */
+    public boolean recordLogin(Instant loggedInAt) {
+        if (loggedInAt.isBefore(lastLoginAt)) {
+            return false;
+        }
+        this.lastLoginAt = loggedInAt;
+        return true;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getProviderUserId() {
+        return providerUserId;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Instant getLastLoginAt() {
+        return lastLoginAt;
+    }
+}
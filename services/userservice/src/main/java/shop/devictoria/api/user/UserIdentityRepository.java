@@ -0,0 +1,12 @@
+package shop.devictoria.api.user;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserIdentityRepository extends JpaRepository<UserIdentity, Long> {
+
+    @EntityGraph(attributePaths = "user")
+    Optional<UserIdentity> findByProviderAndProviderUserId(String provider, String providerUserId);
+}
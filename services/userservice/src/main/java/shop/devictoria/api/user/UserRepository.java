@@ -0,0 +1,6 @@
+package shop.devictoria.api.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+}
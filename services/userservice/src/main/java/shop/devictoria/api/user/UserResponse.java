@@ -0,0 +1,27 @@
+package shop.devictoria.api.user;
+
+import java.time.Instant;
+
+/**
+ * 사용자 프로필 응답. 캐시에 그대로 저장되므로 불변으로 둔다
+ */
+public record UserResponse(
+    Long id,
+    String nickname,
+    String email,
+    String profileImage,
+    Instant createdAt,
+    Instant updatedAt
+) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+                user.getId(),
+                user.getNickname(),
+                user.getEmail(),
+                user.getProfileImage(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
+    }
+}
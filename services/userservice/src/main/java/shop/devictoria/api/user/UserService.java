@@ -0,0 +1,210 @@
+package shop.devictoria.api.user;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import shop.devictoria.api.concurrency.DownstreamLimiter;
+
+/**
+ * 사용자 조회/등록
+ *
+ * 조회는 캐시를 먼저 보고, 적중하면 트랜잭션도 커넥션도 잡지 않는다.
+ * 등록/갱신은 트랜잭션이 커밋된 뒤에 캐시를 무효화하도록 트랜잭션을 메서드 안쪽(TransactionTemplate)에서 연다.
+ */
+@Service
+public class UserService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
+    private final UserRepository userRepository;
+
+    private final UserIdentityRepository identityRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DownstreamLimiter limiter;
+
+    private final Cache usersCache;
+
+    private final Cache subjectsCache;
+
+    public UserService(UserRepository userRepository,
+                       UserIdentityRepository identityRepository,
+                       TransactionTemplate transactionTemplate,
+                       DownstreamLimiter limiter,
+                       CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.identityRepository = identityRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.limiter = limiter;
+        this.usersCache = cacheManager.getCache(UserCacheConfig.USERS);
+        this.subjectsCache = cacheManager.getCache(UserCacheConfig.USERS_BY_SUBJECT);
+    }
+
+    @Cacheable(cacheNames = UserCacheConfig.USERS, key = "#id", unless = "#result == null")
+    public Optional<UserResponse> findById(Long id) {
+        return limiter.call(DownstreamLimiter.DATABASE, () -> userRepository.findById(id).map(UserResponse::from));
+    }
+
+    /**
+     * @param subject "{provider}:{providerUserId}"
+     */
+    @Cacheable(cacheNames = UserCacheConfig.USERS_BY_SUBJECT, key = "#subject", unless = "#result == null")
+    public Optional<UserResponse> findBySubject(String subject) {
+        int separator = subject.indexOf(':');
+        if (separator <= 0 || separator == subject.length() - 1) {
+            return Optional.empty();
+        }
+
+        String provider = subject.substring(0, separator);
+        String providerUserId = subject.substring(separator + 1);
+        return limiter.call(DownstreamLimiter.DATABASE, () -> identityRepository.findByProviderAndProviderUserId(provider, providerUserId)
+                .map(identity -> UserResponse.from(identity.getUser())));
+    }
+
+    /**
+     * 로그인한 소셜 계정의 사용자를 만들거나 프로필을 갱신
+     *
+     * 같은 계정의 첫 로그인이 동시에 들어오면 한쪽은 유니크 제약에 걸리므로, 그때는 이미 만들어진 사용자를 갱신한다.
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = UserCacheConfig.USERS, key = "#result.id()"),
+            @CacheEvict(cacheNames = UserCacheConfig.USERS_BY_SUBJECT, key = "#request.subject()")
+    })
+    public UserResponse upsert(UpsertUserRequest request) {
+        try {
+            return limiter.call(DownstreamLimiter.DATABASE, () -> transactionTemplate.execute(status -> doUpsert(request)));
+        } catch (DataIntegrityViolationException e) {
+            return limiter.call(DownstreamLimiter.DATABASE, () -> transactionTemplate.execute(status -> doUpsert(request)));
+        }
+    }
+
+    /**
+     * authservice 로그인 이벤트 배치 반영
+     *
+     * 같은 계정의 이벤트는 가장 최근 것 하나로 합쳐 배치 전체를 한 트랜잭션에서 반영하고,
+     * 커밋 뒤에 새로 만들어졌거나 프로필이 바뀐 사용자의 캐시를 무효화한다.
+     * 계정의 마지막 로그인보다 오래된 이벤트는 이미 반영된 것으로 보고 건너뛰므로 같은 배치가 다시 와도 결과가 같다.
+     * 배치 트랜잭션이 데이터 오류로 실패하면 계정마다 따로 반영해, 반영할 수 없는 이벤트만 rejected 로 돌려준다.
+     * 커넥션 실패 같은 일시적 오류는 그대로 던져 릴레이가 배치를 다시 보내게 한다.
+     */
+    public LoginEventsResult recordLogins(List<LoginEvent> events) {
+        Map<String, Integer> latest = new LinkedHashMap<>();
+        List<Integer> rejected = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            LoginEvent event = events.get(i);
+            if (event == null || event.provider() == null || event.providerUserId() == null || event.loggedInAt() == null) {
+                log.warn("필수 항목이 빠진 로그인 이벤트를 건너뜁니다: index={}", i);
+                rejected.add(i);
+                continue;
+            }
+            latest.merge(event.subject(), i,
+                    (a, b) -> events.get(b).loggedInAt().isAfter(events.get(a).loggedInAt()) ? b : a);
+        }
+        if (latest.isEmpty()) {
+            return new LoginEventsResult(0, rejected);
+        }
+
+        List<AppliedLogin> applied;
+        try {
+            List<LoginEvent> batch = latest.values().stream().map(events::get).toList();
+            applied = limiter.call(DownstreamLimiter.DATABASE, () -> transactionTemplate.execute(status -> doRecordLogins(batch)));
+        } catch (NonTransientDataAccessException e) {
+            // 같은 계정의 첫 로그인이 동시에 만들어졌거나 반영할 수 없는 이벤트가 섞여 배치 전체가 롤백됐다
+            applied = new ArrayList<>(latest.size());
+            for (int index : latest.values()) {
+                LoginEvent event = events.get(index);
+                try {
+                    applied.addAll(recordLogin(event));
+                } catch (NonTransientDataAccessException rejectedEvent) {
+                    log.warn("반영할 수 없는 로그인 이벤트를 건너뜁니다: eventId={}, subject={}, error={}",
+                            event.eventId(), event.subject(), rejectedEvent.getClass().getSimpleName());
+                    rejected.add(index);
+                }
+            }
+        }
+
+        for (AppliedLogin login : applied) {
+            if (login.profileChanged()) {
+                usersCache.evict(login.userId());
+                subjectsCache.evict(login.subject());
+            }
+        }
+        return new LoginEventsResult(applied.size(), rejected);
+    }
+
+    /**
+     * 이벤트 하나를 자기 트랜잭션에서 반영. 동시에 만들어진 첫 로그인과 부딪히면 한 번 더 반영한다
+     */
+    private List<AppliedLogin> recordLogin(LoginEvent event) {
+        try {
+            return limiter.call(DownstreamLimiter.DATABASE, () -> transactionTemplate.execute(status -> doRecordLogins(List.of(event))));
+        } catch (DataIntegrityViolationException e) {
+            return limiter.call(DownstreamLimiter.DATABASE, () -> transactionTemplate.execute(status -> doRecordLogins(List.of(event))));
+        }
+    }
+
+    private List<AppliedLogin> doRecordLogins(Collection<LoginEvent> events) {
+        List<AppliedLogin> applied = new ArrayList<>(events.size());
+        for (LoginEvent event : events) {
+            UserIdentity identity = identityRepository.findByProviderAndProviderUserId(event.provider(), event.providerUserId())
+                    .orElse(null);
+
+            if (identity == null) {
+                User user = userRepository.save(new User(event.nickname(), event.email(), event.profileImage()));
+                identityRepository.save(new UserIdentity(event.provider(), event.providerUserId(), user, event.loggedInAt()));
+                applied.add(new AppliedLogin(event.subject(), user.getId(), true));
+                continue;
+            }
+
+            if (identity.recordLogin(event.loggedInAt())) {
+                boolean changed = identity.getUser().updateProfile(event.nickname(), event.email(), event.profileImage());
+                applied.add(new AppliedLogin(event.subject(), identity.getUser().getId(), changed));
+            }
+        }
+        identityRepository.flush();
+        return applied;
+    }
+
+    private UserResponse doUpsert(UpsertUserRequest request) {
+        UserIdentity identity = identityRepository.findByProviderAndProviderUserId(request.provider(), request.providerUserId())
+                .orElse(null);
+
+        if (identity == null) {
+            User user = userRepository.save(new User(request.nickname(), request.email(), request.profileImage()));
+            identityRepository.saveAndFlush(new UserIdentity(request.provider(), request.providerUserId(), user));
+            return UserResponse.from(user);
+        }
+
+        User user = identity.getUser();
+        user.updateProfile(request.nickname(), request.email(), request.profileImage());
+        identity.touch();
+        return UserResponse.from(user);
+    }
+
+    /**
+     * @param profileChanged 새로 만들었거나 프로필이 바뀌어 캐시를 무효화해야 하는지
+     */
+    private record AppliedLogin(
+        String subject,
+        Long userId,
+        boolean profileChanged
+    ) {
+    }
+}
@@ -0,0 +1,59 @@
+package shop.devictoria.api.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UserControllerTest {
+
+    private static final UpsertUserRequest REQUEST = new UpsertUserRequest("kakao", "1", "nick", "a@b.c", null);
+
+    private final UserService userService = mock(UserService.class);
+
+    private final UserBatchLoader batchLoader = mock(UserBatchLoader.class);
+
+    @Test
+    void internalApiAcceptsMatchingToken() {
+        when(userService.recordLogins(List.of())).thenReturn(new LoginEventsResult(0, List.of()));
+
+        assertThat(controller("secret").recordLogins("secret", List.of())).isNotNull();
+    }
+
+    @Test
+    void internalApiRejectsMissingOrWrongToken() {
+        UserController controller = controller("secret");
+
+        assertStatus(() -> controller.upsert(null, REQUEST), HttpStatus.UNAUTHORIZED);
+        assertStatus(() -> controller.upsert("secreT", REQUEST), HttpStatus.UNAUTHORIZED);
+        assertStatus(() -> controller.recordLogins("", List.of()), HttpStatus.UNAUTHORIZED);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void internalApiIsHiddenWithoutConfiguredToken() {
+        UserController controller = controller("");
+
+        assertStatus(() -> controller.upsert("", REQUEST), HttpStatus.NOT_FOUND);
+        verifyNoInteractions(userService);
+    }
+
+    private UserController controller(String internalToken) {
+        return new UserController(userService, batchLoader, new ObjectMapper(), internalToken);
+    }
+
+    private static void assertStatus(Runnable call, HttpStatus status) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(status));
+    }
+}
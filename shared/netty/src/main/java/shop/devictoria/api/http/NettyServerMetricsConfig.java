@@ -0,0 +1,23 @@
+package shop.devictoria.api.http;
+
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactor Netty 서버 메트릭
+ *
+ * 켜면 reactor.netty.eventloop.pending.tasks(이벤트 루프 포화), 연결 수, 수신/송신 바이트가 노출된다.
+ * 경로별 지연은 게이트웨이는 spring.cloud.gateway.requests(routeId 태그), authservice 는 http.server.requests(URI 템플릿)가
+ * 기록하므로, 여기서는 uri 태그를 하나로 묶어 카디널리티를 막는다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class NettyServerMetricsConfig {
+
+    private static final String URI_TAG = "/**";
+
+    @Bean
+    public NettyServerCustomizer nettyServerMetricsCustomizer() {
+        return httpServer -> httpServer.metrics(true, uri -> URI_TAG);
+    }
+}
@@ -0,0 +1,37 @@
+package shop.devictoria.api.docs;
+
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 빌드 시 생성한 OpenAPI 명세 (GET /actuator/openapi)
+ *
+ * 운영 빌드(-Pprod)에는 springdoc 가 없으므로 generateOpenApiSpec 이 jar 에 담은 명세를 그대로 내보낸다.
+ * 트래픽 포트로는 내보내지 않도록 management.server.port 로 관리 포트를 따로 열었을 때만 응답하고 그 밖에는 404.
+ */
+@Component
+@WebEndpoint(id = "openapi")
+public class OpenApiSpecEndpoint {
+
+    private static final Resource SPEC = new ClassPathResource("openapi/openapi.json");
+
+    private final Environment environment;
+
+    public OpenApiSpecEndpoint(Environment environment) {
+        this.environment = environment;
+    }
+
+    @ReadOperation(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Resource spec() {
+        if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT || !SPEC.exists()) {
+            return null;
+        }
+        return SPEC;
+    }
+}
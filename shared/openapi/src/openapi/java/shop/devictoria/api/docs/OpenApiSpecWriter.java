@@ -0,0 +1,46 @@
+package shop.devictoria.api.docs;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import shop.devictoria.api.ApiApplication;
+
+/**
+ * 빌드 시 OpenAPI 명세 생성 (generateOpenApiSpec 태스크)
+ *
+ * 애플리케이션을 springdoc 와 함께 띄워 /v3/api-docs 를 파일로 받고 바로 종료한다.
+ * 인자: 출력 파일 경로, 그 뒤는 애플리케이션 인자
+ */
+public final class OpenApiSpecWriter {
+
+    private OpenApiSpecWriter() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args[0]);
+        String[] applicationArgs = Arrays.copyOfRange(args, 1, args.length);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class).run(applicationArgs)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String path = context.getEnvironment().getProperty("springdoc.api-docs.path", "/v3/api-docs");
+
+            HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("OpenAPI 명세 생성 실패: HTTP " + response.statusCode());
+            }
+
+            Files.createDirectories(output.getParent());
+            Files.write(output, response.body());
+        }
+    }
+}